@@ -0,0 +1,91 @@
+package benchmarks;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.Browser;
+import utils.ChromeLaunchProfile;
+import utils.ChromeUserDataTemplate;
+import utils.DriverBinaryResolver;
+import utils.OfflineSiteServer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Time from launching Chrome to the first flight price on the offline results page, per launch
+// profile and page load strategy, with and without a seeded user-data-dir template. Needs a local Chrome; excluded from
+// the default run (see jmh.args in pom.xml).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 8)
+@Fork(1)
+public class BrowserStartupBenchmark {
+
+    @Param({"DEFAULT", "PERFORMANCE"})
+    private ChromeLaunchProfile profile;
+
+    @Param({"false", "true"})
+    private boolean userDataTemplate;
+
+    @Param({"normal", "eager"})
+    private String pageLoadStrategy;
+
+    private String resultsUrl;
+    private Path template;
+
+    @Setup
+    public void setUp() throws IOException {
+        resultsUrl = OfflineSiteServer.start().getBaseUrl() + "/flights.html?origin=IST&destination=ESB&count=60";
+        DriverBinaryResolver.resolve(Browser.CHROME);
+        template = Files.createTempDirectory("chrome-template-").resolve("profile");
+    }
+
+    @TearDown
+    public void tearDown() {
+        ChromeUserDataTemplate.cleanUp();
+        FileUtils.deleteQuietly(template.getParent().toFile());
+        OfflineSiteServer.stop();
+    }
+
+    @Benchmark
+    public String launchAndLoadResults() {
+        ChromeOptions options = profile.createOptions(true);
+        options.setPageLoadStrategy(PageLoadStrategy.fromString(pageLoadStrategy));
+        if (userDataTemplate) {
+            Path userDataDir = ChromeUserDataTemplate.copy(template, () -> profile.createOptions(true), resultsUrl);
+            options.addArguments("--user-data-dir=" + userDataDir);
+        }
+
+        WebDriver driver = new ChromeDriver(options);
+        try {
+            driver.get(resultsUrl);
+            return new WebDriverWait(driver, Duration.ofSeconds(30))
+                    .until(ExpectedConditions.visibilityOfElementLocated(By.cssSelector("[data-testid='flightInfoPrice']")))
+                    .getText();
+        } finally {
+            driver.quit();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.ConfigReader;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigReaderBenchmark {
+
+    @Benchmark
+    public String formattedDepartureDate() {
+        return ConfigReader.getFormattedDepartureDate();
+    }
+
+    @Benchmark
+    public String departureMonthYear() {
+        return ConfigReader.getDepartureMonthYear();
+    }
+
+    @Benchmark
+    public String returnDay() {
+        return ConfigReader.getReturnDay();
+    }
+
+    @Benchmark
+    public int timeout() {
+        return ConfigReader.getTimeout();
+    }
+}
@@ -0,0 +1,76 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import pages.FlightCard;
+import pages.FlightListPage;
+import pages.PriceSortResult;
+import utils.Browser;
+import utils.DriverBinaryResolver;
+import utils.OfflineSiteServer;
+import utils.ScreenshotUtil;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Needs a local Chrome; excluded from the default run (see jmh.args in pom.xml).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FixturePageBenchmark {
+
+    @Param({"60", "300"})
+    private int flightCount;
+
+    private WebDriver driver;
+    private FlightListPage flightListPage;
+
+    @Setup
+    public void setUp() {
+        String baseUrl = OfflineSiteServer.start().getBaseUrl();
+        DriverBinaryResolver.resolve(Browser.CHROME);
+
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless=new", "--window-size=1920,1080");
+        driver = new ChromeDriver(options);
+        driver.get(baseUrl + "/flights.html?origin=IST&destination=ESB&count=" + flightCount);
+        flightListPage = new FlightListPage(driver);
+    }
+
+    @TearDown
+    public void tearDown() {
+        driver.quit();
+        OfflineSiteServer.stop();
+    }
+
+    @Benchmark
+    public List<FlightCard> extractFlightCards() {
+        return flightListPage.extractFlightCards();
+    }
+
+    @Benchmark
+    public PriceSortResult extractAndEvaluatePrices() {
+        return FlightListPage.evaluatePriceSorting(flightListPage.extractFlightCards(), "none");
+    }
+
+    @Benchmark
+    public byte[] captureScreenshot() {
+        return ScreenshotUtil.captureScreenshotAsBytes(driver);
+    }
+}
@@ -0,0 +1,77 @@
+package benchmarks;
+
+import base.BasePage;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+import java.util.concurrent.TimeUnit;
+
+// BasePage.click/type/getText as page objects call them, against a StubDriver, so the time is
+// the framework's own per-step overhead (step metrics, retry wrapper, element cache and the log
+// statement). Compare logLevel OFF and INFO for the share taken by logging.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogMessageBenchmark {
+
+    @Param({"OFF", "INFO"})
+    private String logLevel;
+
+    private SearchForm page;
+
+    @Setup
+    public void setUp() {
+        Configurator.setLevel(SearchForm.class.getName(), Level.toLevel(logLevel));
+        page = new SearchForm();
+    }
+
+    @Benchmark
+    public void click() {
+        page.clickOrigin();
+    }
+
+    @Benchmark
+    public void type() {
+        page.typeOrigin();
+    }
+
+    @Benchmark
+    public String getText() {
+        return page.originText();
+    }
+
+    static class SearchForm extends BasePage {
+        private final By originInput = By.cssSelector("[data-testid='endesign-flight-origin-autosuggestion-input']");
+
+        SearchForm() {
+            super(StubDriver.create(""));
+        }
+
+        void clickOrigin() {
+            click(originInput);
+        }
+
+        void typeOrigin() {
+            type(originInput, "İstanbul");
+        }
+
+        String originText() {
+            return getText(originInput);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package benchmarks;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pages.FlightCard;
+import pages.FlightListPage;
+import pages.PriceSortResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceSortingBenchmark {
+
+    @Param({"20", "200", "1000"})
+    private int flightCount;
+
+    @Param({"OFF", "INFO"})
+    private String logLevel;
+
+    private List<FlightCard> cards;
+
+    @Setup
+    public void setUp() {
+        Configurator.setLevel(FlightListPage.class.getName(), Level.toLevel(logLevel));
+
+        Random random = new Random(42);
+        double[] prices = new double[flightCount];
+        for (int i = 0; i < flightCount; i++) {
+            prices[i] = 900 + random.nextInt(4000);
+        }
+        java.util.Arrays.sort(prices);
+
+        cards = new ArrayList<>(flightCount);
+        for (int i = 0; i < flightCount; i++) {
+            cards.add(new FlightCard(i, prices[i], String.format("%,.2f TL", prices[i]),
+                    "Türk Hava Yolları", "08:30", 0));
+        }
+    }
+
+    @Benchmark
+    public PriceSortResult evaluatePriceSorting() {
+        return FlightListPage.evaluatePriceSorting(cards, "Turkish Airlines | Time: 06:00-18:00");
+    }
+}
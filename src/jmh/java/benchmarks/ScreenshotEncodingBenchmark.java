@@ -0,0 +1,83 @@
+package benchmarks;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.WebDriver;
+import utils.ScreenshotUtil;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// ScreenshotUtil's two failure-screenshot paths on a synthetic 1920x1080 page-like PNG served by
+// a StubDriver: the synchronous file copy and the captured bytes handed to the background writer
+// (including the bytes passed on for the report attachment, as TestListener does).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScreenshotEncodingBenchmark {
+
+    private WebDriver driver;
+    private Path directory;
+
+    @Setup
+    public void setUp() throws IOException {
+        BufferedImage image = new BufferedImage(1920, 1080, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, 1920, 1080);
+        Random random = new Random(7);
+        for (int i = 0; i < 400; i++) {
+            graphics.setColor(new Color(random.nextInt(0xFFFFFF)));
+            graphics.fillRect(random.nextInt(1800), random.nextInt(1000), 20 + random.nextInt(300), 10 + random.nextInt(60));
+        }
+        graphics.dispose();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        driver = StubDriver.create(Base64.getEncoder().encodeToString(output.toByteArray()));
+
+        // Read once by ConfigReader, which nothing has touched yet in this fork.
+        directory = Files.createTempDirectory("screenshot-bench");
+        System.setProperty("screenshotPath", directory.toAbsolutePath() + "/");
+    }
+
+    @TearDown
+    public void tearDown() {
+        ScreenshotUtil.awaitPendingWrites(30);
+        FileUtils.deleteQuietly(directory.toFile());
+    }
+
+    @Benchmark
+    public String captureScreenshotFile() {
+        return ScreenshotUtil.captureScreenshot(driver, "benchmark");
+    }
+
+    @Benchmark
+    public String captureAndSaveAsync(Blackhole blackhole) {
+        byte[] png = ScreenshotUtil.captureScreenshotAsBytes(driver);
+        return ScreenshotUtil.saveScreenshotAsync(png, "benchmark", blackhole::consume).join();
+    }
+}
@@ -0,0 +1,67 @@
+package benchmarks;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+// A WebDriver that answers instantly without a browser: every lookup and MutationObserver wait
+// finds one visible, enabled element, other scripts return null and screenshots return the given PNG. Lets benchmarks run the
+// framework's own page and screenshot code and measure only its overhead.
+final class StubDriver {
+
+    private StubDriver() {
+    }
+
+    static WebDriver create(String screenshotBase64) {
+        WebElement element = (WebElement) Proxy.newProxyInstance(StubDriver.class.getClassLoader(),
+                new Class<?>[]{WebElement.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "isDisplayed":
+                        case "isEnabled":
+                            return true;
+                        case "isSelected":
+                            return false;
+                        case "getText":
+                            return "İstanbul";
+                        case "findElements":
+                            return List.of();
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "StubElement";
+                        default:
+                            return null;
+                    }
+                });
+
+        return (WebDriver) Proxy.newProxyInstance(StubDriver.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class, TakesScreenshot.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findElement":
+                        case "executeAsyncScript":
+                            return element;
+                        case "findElements":
+                            return List.of(element);
+                        case "getScreenshotAs":
+                            return ((OutputType<?>) args[0]).convertFromBase64Png(screenshotBase64);
+                        case "getWindowHandles":
+                            return java.util.Set.of("stub");
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "StubDriver";
+                        default:
+                            return null;
+                    }
+                });
+    }
+}
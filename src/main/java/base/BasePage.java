@@ -3,9 +3,12 @@ package base;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
+import org.openqa.selenium.ElementNotInteractableException;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import utils.StepMetrics;
+import utils.StepRetry;
 import utils.WaitHelper;
 
 public class BasePage {
@@ -13,6 +16,7 @@ public class BasePage {
     protected WaitHelper waitHelper;
     protected JavascriptExecutor js;
     protected Logger logger;
+    protected final ElementCache elementCache = new ElementCache();
 
     public BasePage(WebDriver driver) {
         this.driver = driver;
@@ -22,34 +26,76 @@ public class BasePage {
     }
 
     protected WebElement findElement(By locator) {
-        return waitHelper.waitForElementVisible(locator);
+        long start = StepMetrics.start();
+        try {
+            return StepRetry.run("findElement " + locator, () -> elementCache.use(locator, waitHelper::waitForElementVisible, element -> {
+                if (!element.isDisplayed()) {
+                    throw new ElementNotInteractableException("Cached element is no longer displayed: " + locator);
+                }
+                return element;
+            }));
+        } finally {
+            StepMetrics.record("findElement", locator, start);
+        }
     }
 
     protected void click(By locator) {
-        waitHelper.waitForElementClickable(locator).click();
-        logger.info("Clicked on element: " + locator);
+        long start = StepMetrics.start();
+        try {
+            StepRetry.run("click " + locator, () -> elementCache.use(locator, waitHelper::waitForElementClickable, element -> {
+                element.click();
+                return null;
+            }));
+        } finally {
+            StepMetrics.record("click", locator, start);
+        }
+        logger.info("Clicked on element: {}", locator);
     }
 
     protected void type(By locator, String text) {
-        WebElement element = findElement(locator);
-        element.clear();
-        element.sendKeys(text);
-        logger.info("Typed text: " + text + " into element: " + locator);
+        long start = StepMetrics.start();
+        try {
+            StepRetry.run("type " + locator, () -> elementCache.use(locator, waitHelper::waitForElementVisible, element -> {
+                element.clear();
+                element.sendKeys(text);
+                return null;
+            }));
+        } finally {
+            StepMetrics.record("type", locator, start);
+        }
+        logger.info("Typed text: {} into element: {}", text, locator);
     }
 
     protected String getText(By locator) {
-        String text = findElement(locator).getText();
-        logger.info("Got text: " + text + " from element: " + locator);
+        long start = StepMetrics.start();
+        String text;
+        try {
+            text = StepRetry.run("getText " + locator, () -> findElement(locator).getText());
+        } finally {
+            StepMetrics.record("getText", locator, start);
+        }
+        logger.info("Got text: {} from element: {}", text, locator);
         return text;
     }
 
+    // With the eager/none page load strategy get() returns before images and trackers finish,
+    // so each page waits for what it needs to be usable. Subclasses call this from their constructor.
+    protected void waitUntilReady() {
+        waitHelper.waitForPageLoad();
+    }
+
+    // Call after anything that loads a new document, switches windows or re-renders the page.
+    protected void invalidateElementCache() {
+        elementCache.invalidateAll();
+    }
+
     protected boolean isDisplayed(By locator) {
         try {
             boolean displayed = findElement(locator).isDisplayed();
-            logger.info("Element displayed: " + displayed + " for locator: " + locator);
+            logger.info("Element displayed: {} for locator: {}", displayed, locator);
             return displayed;
         } catch (Exception e) {
-            logger.error("Element not displayed: " + locator);
+            logger.error("Element not displayed: {}", locator);
             return false;
         }
     }
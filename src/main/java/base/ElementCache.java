@@ -0,0 +1,65 @@
+package base;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import utils.ConfigReader;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// WebElements located by one page object, keyed by locator. A cached element is used directly;
+// if it went stale (re-render, navigation) or can't be interacted with yet, it is located again
+// through the page's usual wait. Page objects live on a single test thread, so the map is unsynchronized;
+// the hit/miss counters are totals for the whole suite, summed over every page object and thread.
+public class ElementCache {
+    private static final Logger logger = LogManager.getLogger(ElementCache.class);
+
+    private static final LongAdder suiteHits = new LongAdder();
+    private static final LongAdder suiteMisses = new LongAdder();
+    private static final LongAdder suiteRelocated = new LongAdder();
+
+    private final boolean enabled = ConfigReader.isElementCacheEnabled();
+    private final Map<By, WebElement> elements = new HashMap<>();
+
+    public <T> T use(By locator, Function<By, WebElement> resolver, Function<WebElement, T> action) {
+        WebElement cached = enabled ? elements.get(locator) : null;
+        if (cached != null) {
+            try {
+                T result = action.apply(cached);
+                suiteHits.increment();
+                return result;
+            } catch (StaleElementReferenceException | ElementNotInteractableException e) {
+                suiteRelocated.increment();
+                elements.remove(locator);
+                logger.debug("Cached element for {} unusable ({}), locating again", locator, e.getClass().getSimpleName());
+            }
+        }
+
+        suiteMisses.increment();
+        WebElement element = resolver.apply(locator);
+        if (enabled) {
+            elements.put(locator, element);
+        }
+        return action.apply(element);
+    }
+
+    public void invalidateAll() {
+        elements.clear();
+    }
+
+    public static void logSummary() {
+        long hitCount = suiteHits.sum();
+        long missCount = suiteMisses.sum();
+        if (hitCount + missCount == 0) {
+            return;
+        }
+        logger.info("Element cache suite totals: {} hits, {} misses ({} cached elements re-located), hit rate {}%",
+                hitCount, missCount, suiteRelocated.sum(), hitCount * 100 / (hitCount + missCount));
+    }
+}
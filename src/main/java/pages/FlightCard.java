@@ -0,0 +1,21 @@
+package pages;
+
+public record FlightCard(int index, double price, String displayPrice, String airline,
+                         String departureTime, int stopCount) {
+
+    public boolean hasPrice() {
+        return !Double.isNaN(price);
+    }
+
+    public int departureMinuteOfDay() {
+        if (departureTime == null || departureTime.length() < 5) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(departureTime.substring(0, 2)) * 60
+                    + Integer.parseInt(departureTime.substring(3, 5));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
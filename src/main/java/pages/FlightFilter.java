@@ -0,0 +1,80 @@
+package pages;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+// Filter criteria for FlightListPage.applyFilters. Codes match the checkbox ids on the results
+// page (TK -> #TKairlines, SAW -> #SAWairports, 0 stops -> #0stopCount). Codes keep the order they
+// were added in, so the boxes are ticked in that order.
+public record FlightFilter(Set<String> airlines, Set<String> airports, Set<Integer> stopCounts,
+                           int departureFromHour, int departureToHour) {
+
+    public FlightFilter {
+        airlines = ordered(airlines);
+        airports = ordered(airports);
+        stopCounts = ordered(stopCounts);
+    }
+
+    public static FlightFilter none() {
+        return new FlightFilter(Set.of(), Set.of(), Set.of(), -1, -1);
+    }
+
+    public FlightFilter withAirlines(String... codes) {
+        return new FlightFilter(union(airlines, codes), airports, stopCounts, departureFromHour, departureToHour);
+    }
+
+    public FlightFilter withAirports(String... codes) {
+        return new FlightFilter(airlines, union(airports, codes), stopCounts, departureFromHour, departureToHour);
+    }
+
+    public FlightFilter withStops(Integer... counts) {
+        return new FlightFilter(airlines, airports, union(stopCounts, counts), departureFromHour, departureToHour);
+    }
+
+    public FlightFilter withDepartureHours(int fromHour, int toHour) {
+        if (fromHour < 0 || toHour > 24 || fromHour >= toHour) {
+            throw new IllegalArgumentException("Invalid departure window: " + fromHour + " - " + toHour);
+        }
+        return new FlightFilter(airlines, airports, stopCounts, fromHour, toHour);
+    }
+
+    public boolean hasDepartureWindow() {
+        return departureFromHour >= 0 && departureToHour > departureFromHour;
+    }
+
+    public boolean isEmpty() {
+        return airlines.isEmpty() && airports.isEmpty() && stopCounts.isEmpty() && !hasDepartureWindow();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        if (!stopCounts.isEmpty()) {
+            text.append("stops=").append(stopCounts).append(' ');
+        }
+        if (!airlines.isEmpty()) {
+            text.append("airlines=").append(airlines).append(' ');
+        }
+        if (!airports.isEmpty()) {
+            text.append("airports=").append(airports).append(' ');
+        }
+        if (hasDepartureWindow()) {
+            text.append("departure=").append(departureFromHour).append(":00-").append(departureToHour).append(":00");
+        }
+        return text.length() == 0 ? "none" : text.toString().trim();
+    }
+
+    private static <T> Set<T> ordered(Set<T> values) {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(values));
+    }
+
+    @SafeVarargs
+    private static <T> Set<T> union(Set<T> current, T... added) {
+        Set<T> values = new LinkedHashSet<>(current);
+        for (T value : added) {
+            values.add(value);
+        }
+        return values;
+    }
+}
@@ -1,99 +1,230 @@
 package pages;
 
 import base.BasePage;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.interactions.Actions;
+import utils.ConfigReader;
+import utils.PageCheckpoints;
+import utils.RequestBlocker;
+import utils.StepRetry;
+import utils.TabTracker;
 
 public class FlightListPage extends BasePage {
 
     private By cookieAcceptButton = By.id("onetrust-accept-btn-handler");
     private By filterAccordion = By.cssSelector(".filter-accordion");
-    private By transitFilterCardHeader = By.cssSelector(".ctx-filter-transit.card-header");
-    private By transitFilterCollapse = By.cssSelector(".ctx-filter-transit.card-header + .collapse");
-    private By directFlightCheckbox = By.id("0stopCount");
-    private By timeFilterCardHeader = By.cssSelector(".ctx-filter-departure-return-time.card-header");
-    private By timeFilterCollapse = By.cssSelector(".ctx-filter-departure-return-time.card-header + .collapse");
+    private static final String TRANSIT_FILTER_HEADER = ".ctx-filter-transit.card-header";
+    private static final String TIME_FILTER_HEADER = ".ctx-filter-departure-return-time.card-header";
+    private static final String AIRLINE_FILTER_HEADER = ".ctx-filter-airline.card-header";
+    private static final String AIRPORT_FILTER_HEADER = ".ctx-filter-airports.card-header";
     private By departureTimeSliderContainer = By.cssSelector("[data-testid='departureDepartureTimeSlider']");
     private By departureTimeSliderStart = By.cssSelector("[data-testid='departureDepartureTimeSlider'] .rc-slider-handle-1");
     private By departureTimeSliderEnd = By.cssSelector("[data-testid='departureDepartureTimeSlider'] .rc-slider-handle-2");
-    private By airlineFilterCardHeader = By.cssSelector(".ctx-filter-airline.card-header");
-    private By airlineFilterCollapse = By.cssSelector(".ctx-filter-airline.card-header + .collapse");
-    private By turkishAirlinesCheckbox = By.id("TKairlines");
+    private By airlineFilterCardHeader = By.cssSelector(AIRLINE_FILTER_HEADER);
+    private By airlineFilterCollapse = By.cssSelector(AIRLINE_FILTER_HEADER + " + .collapse");
+    private static final String AIRLINE_CHECKBOX_SELECTOR = "input[type='checkbox'][id$='airlines']";
+    private static final String ALL_CHECKED_SCRIPT =
+            "var boxes = document.querySelectorAll(arguments[0]);" +
+            "return boxes.length > 0 && Array.prototype.every.call(boxes, function (box) { return box.checked; });";
     private By selectAllAirlinesButton = By.cssSelector(".search__filter_airlines-ALL.filter-grup__item");
-    private By airportFilterCardHeader = By.cssSelector(".ctx-filter-airports.card-header");
-    private By airportFilterCollapse = By.cssSelector(".ctx-filter-airports.card-header + .collapse");
-    private By sawAirportCheckbox = By.id("SAWairports");
-    private By istAirportCheckbox = By.id("ISTairports");
     private By priceAscendingSort = By.cssSelector(".search__filter_sort-PRICE_ASC");
-    private By flightPrices = By.cssSelector("[data-testid='flightInfoPrice']");
+    // evaluatePriceSorting is static, so it can't use the inherited per-instance logger.
+    private static final Logger priceLogger = LogManager.getLogger(FlightListPage.class);
+    
+    private static final String FLIGHT_PRICE_SELECTOR = "[data-testid='flightInfoPrice']";
+    private By flightPrices = By.cssSelector(FLIGHT_PRICE_SELECTOR);
+    
+    private static final String FLIGHT_CARD_SELECTOR = ".flight-item";
+    
+    // Each price's card is its closest card-level ancestor. Without one, the card is the nearest
+    // ancestor that shows a departure time but holds no other price, so a single result still works.
+    private static final String FLIGHT_CARDS_SCRIPT =
+            "var priceSelector = arguments[0], cardSelector = arguments[1];" +
+            "var prices = document.querySelectorAll(priceSelector);" +
+            "var timePattern = /\\b([01]\\d|2[0-3]):[0-5]\\d\\b/;" +
+            "function cardOf(price) {" +
+            "  var card = price.closest(cardSelector);" +
+            "  if (card) return card;" +
+            "  card = price;" +
+            "  while (card.parentElement && !timePattern.test(card.innerText || '')" +
+            "      && card.parentElement.querySelectorAll(priceSelector).length === 1) card = card.parentElement;" +
+            "  return card;" +
+            "}" +
+            "var rows = [];" +
+            "for (var i = 0; i < prices.length; i++) {" +
+            "  var price = prices[i], card = cardOf(price);" +
+            "  var text = card.innerText || '';" +
+            "  var airlineNode = card.querySelector('[class*=\"airline\"] img[alt], [class*=\"airline\"]');" +
+            "  var airline = airlineNode ? (airlineNode.getAttribute('alt') || airlineNode.textContent || '').trim() : '';" +
+            "  var time = text.match(timePattern);" +
+            "  var stops = /Aktarmas|Direkt/i.test(text) ? 0 : parseInt((text.match(/(\\d+)\\s*Aktarma/i) || [0, -1])[1], 10);" +
+            "  rows.push([price.getAttribute('data-price'), (price.textContent || '').trim(), airline, time ? time[0] : '', stops]);" +
+            "}" +
+            "return rows;";
+    
+    // Opens every requested filter section and ticks every requested checkbox in one round trip:
+    // clicks the collapsed headers, waits until the sections are open and the checkboxes exist,
+    // then clicks the unchecked ones. Returns the ids it clicked and the ids it never found.
+    private static final String APPLY_FILTERS_SCRIPT =
+            "var headers = arguments[0], ids = arguments[1], deadline = Date.now() + arguments[2];" +
+            "var done = arguments[arguments.length - 1];" +
+            "function collapseOf(selector) { var header = document.querySelector(selector); return header ? header.nextElementSibling : null; }" +
+            "headers.forEach(function (selector) {" +
+            "  var collapse = collapseOf(selector);" +
+            "  if (collapse && !collapse.classList.contains('show')) { document.querySelector(selector).click(); }" +
+            "});" +
+            "function ready() {" +
+            "  return headers.every(function (selector) { var collapse = collapseOf(selector); return collapse && collapse.classList.contains('show'); })" +
+            "    && ids.every(function (id) { return document.getElementById(id); });" +
+            "}" +
+            "(function toggle() {" +
+            "  if (!ready() && Date.now() < deadline) { setTimeout(toggle, 16); return; }" +
+            "  var clicked = [], missing = [];" +
+            "  ids.forEach(function (id) {" +
+            "    var box = document.getElementById(id);" +
+            "    if (!box) { missing.push(id); }" +
+            "    else if (!box.checked) { box.click(); clicked.push(id); }" +
+            "  });" +
+            "  done([clicked, missing]);" +
+            "})();";
+    
+    // Moves both rc-slider handles to exact values with keyboard events (PageUp/PageDown, then
+    // arrows), reading aria-valuenow after each key, so no pixel maths is involved. Handles move in
+    // an order that never crosses them, and a single keyup at the end commits the whole range at once.
+    private static final String SLIDER_RANGE_SCRIPT =
+            "var handles = arguments[0], targets = arguments[1].slice(), deadline = Date.now() + arguments[2];" +
+            "var done = arguments[arguments.length - 1];" +
+            "var codes = {PageUp: 33, PageDown: 34, ArrowLeft: 37, ArrowRight: 39};" +
+            "function value(i) { return parseInt(handles[i].getAttribute('aria-valuenow'), 10); }" +
+            "function press(handle, type, name) {" +
+            "  var event = new KeyboardEvent(type, {key: name, code: name, bubbles: true, cancelable: true});" +
+            "  Object.defineProperty(event, 'keyCode', {get: function () { return codes[name]; }});" +
+            "  Object.defineProperty(event, 'which', {get: function () { return codes[name]; }});" +
+            "  handle.dispatchEvent(event);" +
+            "}" +
+            "targets = targets.map(function (target, i) {" +
+            "  var min = parseInt(handles[i].getAttribute('aria-valuemin'), 10), max = parseInt(handles[i].getAttribute('aria-valuemax'), 10);" +
+            "  return Math.max(isNaN(min) ? target : min, Math.min(isNaN(max) ? target : max, target));" +
+            "});" +
+            "var queue = targets[0] > value(1) ? [1, 0] : [0, 1], pageSize = [0, 0], presses = 0, lastMoved = null;" +
+            "function settle(then) { setTimeout(then, 0); }" +
+            "function finish() {" +
+            "  if (lastMoved) { press(lastMoved, 'keyup', 'ArrowRight'); }" +
+            "  done([value(0), value(1), targets[0], targets[1], presses]);" +
+            "}" +
+            "function step() {" +
+            "  if (!queue.length || Date.now() > deadline) { finish(); return; }" +
+            "  var i = queue[0], handle = handles[i], before = value(i), remaining = targets[i] - before;" +
+            "  if (remaining === 0) { queue.shift(); step(); return; }" +
+            "  var usePage = pageSize[i] >= 0 && Math.abs(remaining) >= pageSize[i];" +
+            "  var name = usePage ? (remaining > 0 ? 'PageUp' : 'PageDown') : (remaining > 0 ? 'ArrowRight' : 'ArrowLeft');" +
+            "  handle.focus();" +
+            "  press(handle, 'keydown', name);" +
+            "  presses++;" +
+            "  settle(function () {" +
+            "    var moved = value(i) - before;" +
+            "    if (moved !== 0) { lastMoved = handle; }" +
+            "    if (usePage && (moved === 0 || Math.abs(moved) > Math.abs(remaining))) {" +
+            "      pageSize[i] = moved === 0 ? -1 : Math.abs(moved);" +
+            "      if (moved === 0) { step(); return; }" +
+            "      press(handle, 'keydown', remaining > 0 ? 'PageDown' : 'PageUp');" +
+            "      presses++;" +
+            "      settle(step);" +
+            "      return;" +
+            "    }" +
+            "    if (!usePage && (moved === 0 || Math.abs(moved) > Math.abs(remaining))) { queue.shift(); }" +
+            "    step();" +
+            "  });" +
+            "}" +
+            "step();";
+    
+    // Scrolls to the bottom until the number of price cards stops growing, so lazily loaded
+    // results are on the page, then restores the scroll position.
+    private static final String LOAD_ALL_RESULTS_SCRIPT =
+            "var selector = arguments[0], maxRounds = arguments[1], done = arguments[arguments.length - 1];" +
+            "var originalScroll = window.scrollY, lastCount = -1, stableRounds = 0, rounds = 0;" +
+            "function step() {" +
+            "  var count = document.querySelectorAll(selector).length;" +
+            "  stableRounds = count === lastCount ? stableRounds + 1 : 0;" +
+            "  lastCount = count;" +
+            "  if (stableRounds >= 2 || rounds++ >= maxRounds) {" +
+            "    window.scrollTo(0, originalScroll);" +
+            "    done(count);" +
+            "    return;" +
+            "  }" +
+            "  window.scrollTo(0, document.body.scrollHeight);" +
+            "  setTimeout(step, 300);" +
+            "}" +
+            "step();";
 
     public FlightListPage(WebDriver driver) {
         super(driver);
         switchToFlightListTab();
-        waitForPageLoad();
+        waitUntilReady();
         closeCookiePopup();
     }
     
+    // Jumps straight to a results page saved by saveCheckpoint; false means search from the home page.
+    public static boolean restoreCheckpoint(WebDriver driver, String key) {
+        return PageCheckpoints.restore(key, driver, By.cssSelector(FLIGHT_PRICE_SELECTOR));
+    }
+    
+    public void saveCheckpoint(String key) {
+        PageCheckpoints.save(key, driver);
+    }
+    
     private void switchToFlightListTab() {
+        logger.info("Waiting for new tab to open...");
+        java.util.Optional<String> newTab = java.util.Optional.empty();
         try {
-            logger.info("Waiting for new tab to open...");
-            Thread.sleep(3000);
-            
-            java.util.Set<String> windowHandles = driver.getWindowHandles();
-            logger.info("Total windows/tabs open: " + windowHandles.size());
-            
-            if (windowHandles.size() > 1) {
-                String currentHandle = driver.getWindowHandle();
-                logger.info("Current window handle: " + currentHandle);
-                
-                for (String handle : windowHandles) {
-                    if (!handle.equals(currentHandle)) {
-                        logger.info("Switching to new tab: " + handle);
-                        driver.switchTo().window(handle);
-                        logger.info("Successfully switched to flight list tab");
-                        break;
-                    }
-                }
-            } else {
-                logger.info("No new tab detected, staying on current page");
-            }
-            
-            String currentUrl = driver.getCurrentUrl();
-            logger.info("Current URL after switch: " + currentUrl);
-            
-        } catch (Exception e) {
-            logger.error("Error switching to new tab: " + e.getMessage());
-            e.printStackTrace();
+            newTab = TabTracker.awaitNewTab(driver, ConfigReader.getTimeoutDuration(),
+                    webDriver -> !webDriver.findElements(filterAccordion).isEmpty());
+        } catch (org.openqa.selenium.TimeoutException e) {
+            logger.warn("Neither a new tab nor the flight list appeared within timeout");
         }
+        
+        if (newTab.isPresent()) {
+            logger.info("Switching to new tab: {}", newTab.get());
+            driver.switchTo().window(newTab.get());
+            invalidateElementCache();
+            RequestBlocker.attach(driver);
+            logger.info("Successfully switched to flight list tab");
+        } else {
+            logger.info("No new tab detected, staying on current page");
+        }
+        
+        logger.info("Current URL after switch: {}", driver.getCurrentUrl());
     }
     
-    private void waitForPageLoad() {
+    // Ready once the filters and the first price card have rendered; the remaining cards keep
+    // loading, and every method that reads results waits for them to settle first.
+    @Override
+    protected void waitUntilReady() {
         try {
             logger.info("Waiting for flight list page to load...");
-            Thread.sleep(2000);
             
             waitHelper.waitForElementVisible(filterAccordion);
-            logger.info("Filter accordion loaded successfully");
-            
-            Thread.sleep(1000);
-            logger.info("Page load wait completed");
+            waitHelper.waitForElementVisible(flightPrices);
+            waitHelper.trackNetworkRequests();
+            logger.info("Filters and first flight price rendered");
         } catch (Exception e) {
-            logger.warn("Page load wait completed with warnings: " + e.getMessage());
+            logger.warn("Page load wait completed with warnings: {}", e.getMessage());
         }
     }
     
     private void closeCookiePopup() {
         try {
             logger.info("Looking for cookie consent popup...");
-            Thread.sleep(500);
             
             WebElement acceptButton = driver.findElement(cookieAcceptButton);
             if (acceptButton != null && acceptButton.isDisplayed()) {
                 logger.info("Cookie consent popup detected, clicking accept button");
                 acceptButton.click();
-                Thread.sleep(500);
+                waitHelper.waitForElementInvisible(cookieAcceptButton);
                 logger.info("Cookie popup closed");
             }
         } catch (Exception e) {
@@ -101,348 +232,180 @@ public class FlightListPage extends BasePage {
         }
     }
     
-    private void openTimeFilter() {
-        try {
-            logger.info("Opening time filter...");
-            
-            Thread.sleep(1000);
-            
-            WebElement cardHeader = waitHelper.waitForElementVisible(timeFilterCardHeader);
-            logger.info("Time filter card header found");
-            
-            org.openqa.selenium.JavascriptExecutor js = (org.openqa.selenium.JavascriptExecutor) driver;
-            
-            js.executeScript("arguments[0].scrollIntoView({block: 'center'});", cardHeader);
-            Thread.sleep(500);
-            
-            WebElement collapse = driver.findElement(timeFilterCollapse);
-            String collapseClass = collapse.getAttribute("class");
-            
-            if (collapseClass != null && collapseClass.contains("show")) {
-                logger.info("Time filter already open");
-                return;
-            }
-            
-            js.executeScript("arguments[0].click();", cardHeader);
-            Thread.sleep(1000);
-            
-            logger.info("Time filter expanded successfully");
-            
-        } catch (Exception e) {
-            logger.error("Failed to open time filter: " + e.getMessage());
-            e.printStackTrace();
-            throw new RuntimeException("Cannot open time filter", e);
+    // Applies all criteria with one batched script and a single wait for the results to settle,
+    // instead of one open/click/settle cycle per checkbox. Only adds filters; already ticked boxes stay.
+    public void applyFilters(FlightFilter filter) {
+        logger.info("Applying filters: {}", filter);
+        if (filter.isEmpty()) {
+            return;
+        }
+        
+        // The script only clicks boxes that are still unchecked, so a retry picks up where it stopped.
+        StepRetry.run("applyFilters " + filter, () -> applyFiltersOnce(filter));
+    }
+    
+    private void applyFiltersOnce(FlightFilter filter) {
+        java.util.List<String> headers = new java.util.ArrayList<>();
+        java.util.List<String> ids = new java.util.ArrayList<>();
+        if (!filter.stopCounts().isEmpty()) {
+            headers.add(TRANSIT_FILTER_HEADER);
+            filter.stopCounts().forEach(stops -> ids.add(stops + "stopCount"));
+        }
+        if (!filter.airlines().isEmpty()) {
+            headers.add(AIRLINE_FILTER_HEADER);
+            filter.airlines().forEach(code -> ids.add(code.toUpperCase(java.util.Locale.ROOT) + "airlines"));
+        }
+        if (!filter.airports().isEmpty()) {
+            headers.add(AIRPORT_FILTER_HEADER);
+            filter.airports().forEach(code -> ids.add(code.toUpperCase(java.util.Locale.ROOT) + "airports"));
+        }
+        if (filter.hasDepartureWindow()) {
+            headers.add(TIME_FILTER_HEADER);
+        }
+        
+        Object raw = js.executeAsyncScript(APPLY_FILTERS_SCRIPT, headers, ids, ConfigReader.getTimeoutDuration().toMillis());
+        java.util.List<?> outcome = (java.util.List<?>) raw;
+        java.util.List<?> clicked = (java.util.List<?>) outcome.get(0);
+        java.util.List<?> missing = (java.util.List<?>) outcome.get(1);
+        if (!missing.isEmpty()) {
+            throw new NoSuchElementException("Filter options not found on the results page: " + missing);
         }
+        logger.info("Filter checkboxes clicked: {} (already selected: {})", clicked, ids.size() - clicked.size());
+        
+        boolean changed = !clicked.isEmpty();
+        if (filter.hasDepartureWindow()) {
+            waitHelper.waitForElementVisible(departureTimeSliderContainer);
+            changed |= setSliderRange(filter.departureFromHour() * 60, filter.departureToHour() * 60);
+        }
+        
+        waitForResultsToSettle(changed);
+        logger.info("Filters applied: {}", filter);
     }
 
     public void setDepartureTimeFilter(int startHour, int endHour) {
-        logger.info("Setting departure time filter: " + startHour + ":00 - " + endHour + ":00");
+        logger.info("Setting departure time filter: {}:00 - {}:00", startHour, endHour);
+        applyFilters(FlightFilter.none().withDepartureHours(startHour, endHour));
+    }
+
+    // Sets both handles in one script call and checks aria-valuenow; returns whether anything moved.
+    private boolean setSliderRange(int startMinutes, int endMinutes) {
+        WebElement startHandle = waitHelper.waitForElementVisible(departureTimeSliderStart);
+        WebElement endHandle = driver.findElement(departureTimeSliderEnd);
+        logger.info("Slider: {}-{}min → {}-{}min", startHandle.getAttribute("aria-valuenow"),
+                endHandle.getAttribute("aria-valuenow"), startMinutes, endMinutes);
         
-        openTimeFilter();
+        Object raw = js.executeAsyncScript(SLIDER_RANGE_SCRIPT, java.util.List.of(startHandle, endHandle),
+                java.util.List.of(startMinutes, endMinutes), ConfigReader.getTimeoutDuration().toMillis());
+        java.util.List<?> outcome = (java.util.List<?>) raw;
+        int start = ((Number) outcome.get(0)).intValue();
+        int end = ((Number) outcome.get(1)).intValue();
+        int expectedStart = ((Number) outcome.get(2)).intValue();
+        int expectedEnd = ((Number) outcome.get(3)).intValue();
+        int presses = ((Number) outcome.get(4)).intValue();
         
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
+        if (start != expectedStart || end != expectedEnd) {
+            throw new IllegalStateException("Departure slider stopped at " + start + "-" + end
+                    + "min instead of " + expectedStart + "-" + expectedEnd + "min");
         }
+        logger.info("Slider set to: {}-{}min with {} key presses", start, end, presses);
+        return presses > 0;
+    }
+
+    public boolean verifyFlightTimesInRange(int startHour, int endHour) {
+        logger.info("Verifying all flights are within time range: {}:00 - {}:00", startHour, endHour);
         
-        try {
-            WebElement sliderContainer = waitHelper.waitForElementVisible(departureTimeSliderContainer);
-            logger.info("Slider container found and visible");
-        } catch (Exception e) {
-            logger.error("Slider container not found after opening filter!");
-            throw new RuntimeException(e);
+        waitForResultsToSettle(false);
+        
+        js.executeAsyncScript(LOAD_ALL_RESULTS_SCRIPT, FLIGHT_PRICE_SELECTOR, 20);
+        java.util.List<FlightCard> cards = extractFlightCards();
+        
+        if (cards.isEmpty()) {
+            logger.warn("No flights found to verify time range");
+            return false;
         }
         
         int startMinutes = startHour * 60;
         int endMinutes = endHour * 60;
+        int maxReported = 5;
+        int violations = 0;
+        int unparsed = 0;
         
-        setSliderValue(departureTimeSliderStart, startMinutes);
-        setSliderValue(departureTimeSliderEnd, endMinutes);
-        
-        logger.info("Departure time filter applied successfully");
-    }
-
-    private void setSliderValue(By sliderHandle, int targetMinutes) {
-        try {
-            WebElement slider = waitHelper.waitForElementVisible(sliderHandle);
-            String currentValue = slider.getAttribute("aria-valuenow");
-            int currentMinutes = Integer.parseInt(currentValue);
-            
-            logger.info("Slider: " + currentMinutes + "min → " + targetMinutes + "min");
-            
-            if (currentMinutes == targetMinutes) {
-                logger.info("Slider already at target");
-                return;
+        for (FlightCard card : cards) {
+            int minutes = card.departureMinuteOfDay();
+            if (minutes < 0) {
+                unparsed++;
+                continue;
             }
-            
-            WebElement sliderTrack = driver.findElement(departureTimeSliderContainer);
-            int trackWidth = sliderTrack.getSize().getWidth();
-            
-            double targetPercentage = calculateLeftPercentage(targetMinutes);
-            int targetPixelOffset = (int) ((targetPercentage / 100.0) * trackWidth);
-            
-            int currentPercentage = (int) ((currentMinutes / 1439.0) * 100);
-            int currentPixelOffset = (int) ((currentPercentage / 100.0) * trackWidth);
-            
-            int xOffset = targetPixelOffset - currentPixelOffset;
-            
-            logger.info("Moving slider: " + xOffset + "px");
-            
-            org.openqa.selenium.interactions.Actions actions = new org.openqa.selenium.interactions.Actions(driver);
-            
-            actions.clickAndHold(slider)
-                   .pause(java.time.Duration.ofMillis(100))
-                   .moveByOffset(xOffset, 0)
-                   .pause(java.time.Duration.ofMillis(100))
-                   .release()
-                   .perform();
-            
-            Thread.sleep(500);
-            
-            String newValue = slider.getAttribute("aria-valuenow");
-            logger.info("Slider set to: " + newValue + "min");
-            
-        } catch (Exception e) {
-            logger.error("Error setting slider: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-    
-    private double calculateLeftPercentage(int minutes) {
-        int maxMinutes = 1439;
-        return ((double) minutes / maxMinutes) * 100;
-    }
-
-    public boolean verifyFlightTimesInRange(int startHour, int endHour) {
-        logger.info("Verifying all flights are within time range: " + startHour + ":00 - " + endHour + ":00");
-        return true;
-    }
-    
-    public void openTransitFilter() {
-        try {
-            logger.info("Opening transit filter...");
-            
-            WebElement cardHeader = waitHelper.waitForElementVisible(transitFilterCardHeader);
-            logger.info("Transit filter card header found");
-            
-            WebElement collapse = driver.findElement(transitFilterCollapse);
-            String collapseClass = collapse.getAttribute("class");
-            
-            if (!collapseClass.contains("show")) {
-                logger.info("Transit filter is collapsed, expanding...");
-                
-                js.executeScript("arguments[0].scrollIntoView({block: 'center'});", cardHeader);
-                Thread.sleep(500);
-                
-                js.executeScript("arguments[0].click();", cardHeader);
-                Thread.sleep(1000);
-                
-                logger.info("Transit filter expanded successfully");
-            } else {
-                logger.info("Transit filter is already expanded");
+            if (minutes < startMinutes || minutes > endMinutes) {
+                if (violations < maxReported) {
+                    logger.error("Flight {} departs at {}, outside {}:00 - {}:00",
+                            card.index() + 1, card.departureTime(), startHour, endHour);
+                }
+                violations++;
             }
-            
-        } catch (Exception e) {
-            logger.error("Error opening transit filter: " + e.getMessage());
-            e.printStackTrace();
         }
-    }
-    
-    public void selectDirectFlights() {
-        try {
-            logger.info("Selecting direct flights checkbox...");
-            
-            Thread.sleep(1000);
-            
-            WebElement checkbox = waitHelper.waitForElementClickable(directFlightCheckbox);
-            
-            if (!checkbox.isSelected()) {
-                logger.info("Direct flights checkbox is not selected, clicking...");
-                
-                js.executeScript("arguments[0].scrollIntoView({block: 'center'});", checkbox);
-                Thread.sleep(500);
-                
-                js.executeScript("arguments[0].click();", checkbox);
-                Thread.sleep(1500);
-                
-                logger.info("Direct flights checkbox selected successfully");
-            } else {
-                logger.info("Direct flights checkbox is already selected");
-            }
-            
-        } catch (Exception e) {
-            logger.error("Error selecting direct flights: " + e.getMessage());
-            e.printStackTrace();
+        
+        if (unparsed > 0) {
+            logger.warn("{} flight(s) had no readable departure time", unparsed);
         }
+        
+        if (violations > 0) {
+            logger.error("{} of {} flights are outside the time range", violations, cards.size());
+            return false;
+        }
+        
+        logger.info("All {} flights depart within {}:00 - {}:00", cards.size() - unparsed, startHour, endHour);
+        return unparsed < cards.size();
     }
     
     public void openAirlineFilter() {
-        try {
-            logger.info("Opening airline filter...");
-            
-            WebElement cardHeader = waitHelper.waitForElementVisible(airlineFilterCardHeader);
-            logger.info("Airline filter card header found");
-            
-            WebElement collapse = driver.findElement(airlineFilterCollapse);
-            String collapseClass = collapse.getAttribute("class");
-            
-            if (!collapseClass.contains("show")) {
-                logger.info("Airline filter is collapsed, expanding...");
-                
-                js.executeScript("arguments[0].scrollIntoView({block: 'center'});", cardHeader);
-                Thread.sleep(500);
-                
-                js.executeScript("arguments[0].click();", cardHeader);
-                Thread.sleep(1000);
-                
-                logger.info("Airline filter expanded successfully");
-            } else {
-                logger.info("Airline filter is already expanded");
-            }
-            
-        } catch (Exception e) {
-            logger.error("Error opening airline filter: " + e.getMessage());
-            e.printStackTrace();
-        }
+        openFilterSection("Airline", airlineFilterCardHeader, airlineFilterCollapse);
     }
     
     public void selectTurkishAirlines() {
-        try {
-            logger.info("Selecting Turkish Airlines...");
-            
-            WebElement checkbox = waitHelper.waitForElementVisible(turkishAirlinesCheckbox);
-            
-            if (!checkbox.isSelected()) {
-                logger.info("Turkish Airlines checkbox is not selected, clicking...");
-                
-                js.executeScript("arguments[0].scrollIntoView({block: 'center'});", checkbox);
-                Thread.sleep(300);
-                
-                js.executeScript("arguments[0].click();", checkbox);
-                Thread.sleep(1500);
-                
-                logger.info("Turkish Airlines selected successfully");
-            } else {
-                logger.info("Turkish Airlines is already selected");
-            }
-            
-        } catch (Exception e) {
-            logger.error("Error selecting Turkish Airlines: " + e.getMessage());
-            e.printStackTrace();
-        }
+        applyFilters(FlightFilter.none().withAirlines("TK"));
     }
     
     public void selectAllAirlines() {
-        try {
+        StepRetry.run("selectAllAirlines", () -> {
             logger.info("Selecting all airlines (Tümünü seç)...");
             
-            Thread.sleep(1000);
-            
             WebElement selectAllButton = waitHelper.waitForElementClickable(selectAllAirlinesButton);
             
-            js.executeScript("arguments[0].scrollIntoView({block: 'center'});", selectAllButton);
-            Thread.sleep(500);
+            // "Tümünü seç" toggles, so clicking it when every airline is already ticked would clear them all.
+            Object allSelected = js.executeScript(ALL_CHECKED_SCRIPT, AIRLINE_CHECKBOX_SELECTOR);
+            if (Boolean.TRUE.equals(allSelected)) {
+                logger.info("All airlines are already selected");
+                return;
+            }
             
+            js.executeScript("arguments[0].scrollIntoView({block: 'center'});", selectAllButton);
             js.executeScript("arguments[0].click();", selectAllButton);
-            Thread.sleep(1500);
+            waitForResultsToSettle(true);
             
             logger.info("All airlines selected successfully");
-            
-        } catch (Exception e) {
-            logger.error("Error selecting all airlines: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-    
-    public void openAirportFilter() {
-        try {
-            logger.info("Opening airport filter...");
-            
-            WebElement cardHeader = waitHelper.waitForElementVisible(airportFilterCardHeader);
-            logger.info("Airport filter card header found");
-            
-            WebElement collapse = driver.findElement(airportFilterCollapse);
-            String collapseClass = collapse.getAttribute("class");
-            
-            if (!collapseClass.contains("show")) {
-                logger.info("Airport filter is collapsed, expanding...");
-                
-                js.executeScript("arguments[0].scrollIntoView({block: 'center'});", cardHeader);
-                Thread.sleep(500);
-                
-                js.executeScript("arguments[0].click();", cardHeader);
-                Thread.sleep(1000);
-                
-                logger.info("Airport filter expanded successfully");
-            } else {
-                logger.info("Airport filter is already expanded");
-            }
-            
-        } catch (Exception e) {
-            logger.error("Error opening airport filter: " + e.getMessage());
-            e.printStackTrace();
-        }
+        });
     }
     
-    public void selectSawAirport() {
-        try {
-            logger.info("Selecting SAW (Sabiha Gökçen) airport...");
+    private void openFilterSection(String name, By cardHeaderLocator, By collapseLocator) {
+        StepRetry.run("open " + name + " filter", () -> {
+            logger.info("Opening {} filter...", name);
             
-            Thread.sleep(1000);
+            WebElement cardHeader = waitHelper.waitForElementVisible(cardHeaderLocator);
+            String collapseClass = driver.findElement(collapseLocator).getAttribute("class");
             
-            WebElement checkbox = waitHelper.waitForElementClickable(sawAirportCheckbox);
-            
-            if (!checkbox.isSelected()) {
-                logger.info("SAW airport checkbox is not selected, clicking...");
-                
-                js.executeScript("arguments[0].scrollIntoView({block: 'center'});", checkbox);
-                Thread.sleep(500);
-                
-                js.executeScript("arguments[0].click();", checkbox);
-                Thread.sleep(1500);
-                
-                logger.info("SAW airport selected successfully");
+            if (collapseClass == null || !collapseClass.contains("show")) {
+                js.executeScript("arguments[0].scrollIntoView({block: 'center'}); arguments[0].click();", cardHeader);
+                waitHelper.waitForAttributeContains(collapseLocator, "class", "show");
+                logger.info("{} filter expanded successfully", name);
             } else {
-                logger.info("SAW airport is already selected");
+                logger.info("{} filter is already expanded", name);
             }
-            
-        } catch (Exception e) {
-            logger.error("Error selecting SAW airport: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-    
-    public void selectIstAirport() {
-        try {
-            logger.info("Selecting IST (Istanbul) airport...");
-            
-            Thread.sleep(1000);
-            
-            WebElement checkbox = waitHelper.waitForElementClickable(istAirportCheckbox);
-            
-            if (!checkbox.isSelected()) {
-                logger.info("IST airport checkbox is not selected, clicking...");
-                
-                js.executeScript("arguments[0].scrollIntoView({block: 'center'});", checkbox);
-                Thread.sleep(500);
-                
-                js.executeScript("arguments[0].click();", checkbox);
-                Thread.sleep(1500);
-                
-                logger.info("IST airport selected successfully");
-            } else {
-                logger.info("IST airport is already selected");
-            }
-            
-        } catch (Exception e) {
-            logger.error("Error selecting IST airport: " + e.getMessage());
-            e.printStackTrace();
-        }
+        });
     }
     
     public void sortByPriceAscending() {
-        try {
+        StepRetry.run("sortByPriceAscending", () -> {
             logger.info("Sorting flights by price (ascending - low to high)...");
             
             WebElement sortOption = waitHelper.waitForElementVisible(priceAscendingSort);
@@ -453,139 +416,160 @@ public class FlightListPage extends BasePage {
                 logger.info("Price ascending sort is not active, clicking...");
                 
                 js.executeScript("arguments[0].scrollIntoView({block: 'center'});", sortOption);
-                Thread.sleep(300);
-                
                 js.executeScript("arguments[0].click();", sortOption);
-                Thread.sleep(2000);
+                waitForResultsToSettle(true);
                 
                 logger.info("Flights sorted by price (low to high) successfully");
             } else {
                 logger.info("Price ascending sort is already active");
             }
-            
-        } catch (Exception e) {
-            logger.error("Error sorting by price: " + e.getMessage());
-            e.printStackTrace();
-        }
+        });
     }
     
-    public java.util.Map<String, Object> verifyPriceSortingAccuracy() {
-        java.util.Map<String, Object> result = new java.util.HashMap<>();
-        result.put("success", false);
-        result.put("prices", new java.util.ArrayList<Double>());
-        result.put("priceDetails", "");
+    public java.util.List<FlightCard> extractFlightCards() {
+        Object raw = js.executeScript(FLIGHT_CARDS_SCRIPT, FLIGHT_PRICE_SELECTOR, FLIGHT_CARD_SELECTOR);
+        
+        java.util.List<FlightCard> cards = new java.util.ArrayList<>();
+        if (!(raw instanceof java.util.List)) {
+            return cards;
+        }
         
+        java.util.List<?> rows = (java.util.List<?>) raw;
+        for (int i = 0; i < rows.size(); i++) {
+            java.util.List<?> row = (java.util.List<?>) rows.get(i);
+            cards.add(new FlightCard(
+                    i,
+                    parsePrice(row.get(0)),
+                    (String) row.get(1),
+                    (String) row.get(2),
+                    (String) row.get(3),
+                    ((Number) row.get(4)).intValue()));
+        }
+        return cards;
+    }
+    
+    private double parsePrice(Object dataPrice) {
+        if (dataPrice == null || dataPrice.toString().isEmpty()) {
+            return Double.NaN;
+        }
         try {
-            logger.info("Verifying price sorting accuracy...");
-            Thread.sleep(2000);
-            
-            java.util.List<WebElement> priceElements = driver.findElements(flightPrices);
-            
-            if (priceElements.isEmpty()) {
-                logger.warn("No price elements found on the page");
-                result.put("message", "No price elements found");
-                return result;
-            }
-            
-            logger.info("Found " + priceElements.size() + " flight prices to verify");
-            
-            java.util.List<Double> prices = new java.util.ArrayList<>();
-            StringBuilder priceDetails = new StringBuilder();
-            priceDetails.append("=== FLIGHT PRICE VERIFICATION DETAILS ===\n\n");
-            priceDetails.append("Total Flights Found: ").append(priceElements.size()).append("\n");
-            priceDetails.append("Filter: Turkish Airlines | Time: 06:00-18:00\n\n");
-            priceDetails.append("Flight Prices (Ascending Order):\n");
-            priceDetails.append("─────────────────────────────────\n");
-            
-            for (int i = 0; i < priceElements.size(); i++) {
-                WebElement priceElement = priceElements.get(i);
-                
-                String dataPriceAttr = priceElement.getAttribute("data-price");
-                
-                if (dataPriceAttr != null && !dataPriceAttr.isEmpty()) {
-                    try {
-                        double price = Double.parseDouble(dataPriceAttr);
-                        prices.add(price);
-                        
-                        String displayPrice = priceElement.getText().trim();
-                        logger.info("Flight " + (i + 1) + " - Price: " + displayPrice + " (data-price: " + price + " TL)");
-                        
-                        priceDetails.append(String.format("Flight %2d: %,10.2f TL\n", (i + 1), price));
-                        
-                    } catch (NumberFormatException e) {
-                        logger.warn("Could not parse data-price attribute: " + dataPriceAttr);
-                    }
-                } else {
-                    logger.warn("No data-price attribute found for element at index " + i);
-                }
+            return Double.parseDouble(dataPrice.toString());
+        } catch (NumberFormatException e) {
+            logger.warn("Could not parse data-price attribute: {}", dataPrice);
+            return Double.NaN;
+        }
+    }
+    
+    // appliedFilters describes the filters in effect and is printed in the report header.
+    public PriceSortResult verifyPriceSortingAccuracy(String appliedFilters) {
+        logger.info("Verifying price sorting accuracy...");
+        waitForResultsToSettle(false);
+        
+        java.util.List<FlightCard> cards = extractFlightCards();
+        
+        return evaluatePriceSorting(cards, appliedFilters);
+    }
+    
+    public static PriceSortResult evaluatePriceSorting(java.util.List<FlightCard> cards, String appliedFilters) {
+        if (cards.isEmpty()) {
+            priceLogger.warn("No price elements found on the page");
+            return new PriceSortResult(false, new double[0], "", "No price elements found");
+        }
+        
+        priceLogger.info("Found {} flight prices to verify", cards.size());
+        
+        double[] prices = new double[cards.size()];
+        int count = 0;
+        StringBuilder priceDetails = new StringBuilder(128 + cards.size() * 32);
+        priceDetails.append("=== FLIGHT PRICE VERIFICATION DETAILS ===\n\n");
+        priceDetails.append("Total Flights Found: ").append(cards.size()).append("\n");
+        priceDetails.append("Filter: ").append(appliedFilters).append("\n\n");
+        priceDetails.append("Flight Prices (Ascending Order):\n");
+        priceDetails.append("─────────────────────────────────\n");
+        
+        for (FlightCard card : cards) {
+            if (!card.hasPrice()) {
+                priceLogger.warn("No data-price attribute found for element at index {}", card.index());
+                continue;
             }
             
-            if (prices.size() < 2) {
-                logger.warn("Not enough valid prices found for comparison. Found: " + prices.size());
-                result.put("success", true);
-                result.put("message", "Insufficient prices for comparison");
-                return result;
+            prices[count++] = card.price();
+            priceLogger.info("Flight {} - Price: {} (data-price: {} TL)", card.index() + 1, card.displayPrice(), card.price());
+            priceDetails.append(String.format("Flight %2d: %,10.2f TL\n", (card.index() + 1), card.price()));
+        }
+        prices = java.util.Arrays.copyOf(prices, count);
+        
+        if (prices.length < 2) {
+            priceLogger.warn("Not enough valid prices found for comparison. Found: {}", prices.length);
+            return new PriceSortResult(true, prices, priceDetails.toString(), "Insufficient prices for comparison");
+        }
+        
+        priceDetails.append("─────────────────────────────────\n\n");
+        
+        boolean isSorted = true;
+        for (int i = 0; i < prices.length - 1; i++) {
+            if (prices[i] > prices[i + 1]) {
+                priceLogger.error("❌ PRICE SORTING VERIFICATION FAILED!");
+                priceLogger.error("Price at position {} ({} TL) is greater than price at position {} ({} TL)", i + 1, prices[i], i + 2, prices[i + 1]);
+                priceDetails.append("❌ VERIFICATION FAILED!\n");
+                priceDetails.append(String.format("Price %d (%.2f TL) > Price %d (%.2f TL)\n", 
+                    (i + 1), prices[i], (i + 2), prices[i + 1]));
+                isSorted = false;
+                break;
             }
-            
-            priceDetails.append("─────────────────────────────────\n\n");
-            
-            boolean isSorted = true;
-            for (int i = 0; i < prices.size() - 1; i++) {
-                if (prices.get(i) > prices.get(i + 1)) {
-                    logger.error("❌ PRICE SORTING VERIFICATION FAILED!");
-                    logger.error("Price at position " + (i + 1) + " (" + prices.get(i) + " TL) is greater than price at position " + (i + 2) + " (" + prices.get(i + 1) + " TL)");
-                    priceDetails.append("❌ VERIFICATION FAILED!\n");
-                    priceDetails.append(String.format("Price %d (%.2f TL) > Price %d (%.2f TL)\n", 
-                        (i + 1), prices.get(i), (i + 2), prices.get(i + 1)));
-                    isSorted = false;
-                    break;
-                }
+        }
+        
+        double first = prices[0];
+        double last = prices[prices.length - 1];
+        
+        if (isSorted) {
+            priceLogger.info("✓ PRICE SORTING VERIFICATION PASSED!");
+            priceLogger.info("All {} flight prices are in ascending order (low to high)", prices.length);
+            if (priceLogger.isInfoEnabled()) {
+                priceLogger.info("Price range: {} TL - {} TL", String.format("%.2f", first), String.format("%.2f", last));
             }
             
-            if (isSorted) {
-                logger.info("✓ PRICE SORTING VERIFICATION PASSED!");
-                logger.info("All " + prices.size() + " flight prices are in ascending order (low to high)");
-                logger.info("Price range: " + String.format("%.2f", prices.get(0)) + " TL - " + String.format("%.2f", prices.get(prices.size() - 1)) + " TL");
-                
-                priceDetails.append("✓ VERIFICATION STATUS: PASSED\n\n");
-                priceDetails.append("Price Range:\n");
-                priceDetails.append(String.format("  Minimum: %,10.2f TL\n", prices.get(0)));
-                priceDetails.append(String.format("  Maximum: %,10.2f TL\n", prices.get(prices.size() - 1)));
-                priceDetails.append(String.format("  Difference: %,9.2f TL\n\n", prices.get(prices.size() - 1) - prices.get(0)));
-                
-                double average = prices.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
-                priceDetails.append(String.format("  Average: %,10.2f TL\n", average));
-                
-                priceDetails.append("\n✓ All prices are in ascending order (low to high)");
+            double sum = 0.0;
+            for (double price : prices) {
+                sum += price;
             }
             
-            result.put("success", isSorted);
-            result.put("prices", prices);
-            result.put("priceDetails", priceDetails.toString());
-            result.put("minPrice", prices.get(0));
-            result.put("maxPrice", prices.get(prices.size() - 1));
-            result.put("flightCount", prices.size());
-            
-            return result;
+            priceDetails.append("✓ VERIFICATION STATUS: PASSED\n\n");
+            priceDetails.append("Price Range:\n");
+            priceDetails.append(String.format("  Minimum: %,10.2f TL\n", first));
+            priceDetails.append(String.format("  Maximum: %,10.2f TL\n", last));
+            priceDetails.append(String.format("  Difference: %,9.2f TL\n\n", last - first));
+            priceDetails.append(String.format("  Average: %,10.2f TL\n", sum / prices.length));
             
-        } catch (Exception e) {
-            logger.error("Error verifying price sorting: " + e.getMessage());
-            e.printStackTrace();
-            result.put("message", "Error: " + e.getMessage());
-            return result;
+            priceDetails.append("\n✓ All prices are in ascending order (low to high)");
         }
+        
+        return new PriceSortResult(isSorted, prices, priceDetails.toString(), null);
     }
     
-    public void scrollToTop() {
-        try {
-            logger.info("Scrolling to top of the page...");
-            js.executeScript("window.scrollTo(0, 0);");
-            Thread.sleep(500);
-            logger.info("Scrolled to top successfully");
-        } catch (Exception e) {
-            logger.error("Error scrolling to top: " + e.getMessage());
-            e.printStackTrace();
+    public void waitForResultsToSettle() {
+        waitForResultsToSettle(false);
+    }
+    
+    private void waitForResultsToSettle(boolean expectChange) {
+        // A filter or sort that changed something re-renders the results and filter counts.
+        if (expectChange) {
+            invalidateElementCache();
+        }
+        
+        long start = System.currentTimeMillis();
+        boolean settled = waitHelper.waitForDomToSettle(flightPrices, expectChange);
+        if (settled) {
+            logger.info("Flight results settled in {} ms", System.currentTimeMillis() - start);
+        } else {
+            logger.warn("Flight results still changing after {} ms, continuing", System.currentTimeMillis() - start);
         }
     }
+    
+    public void scrollToTop() {
+        logger.info("Scrolling to top of the page...");
+        js.executeScript("window.scrollTo(0, 0);");
+        logger.info("Scrolled to top successfully");
+    }
 }
 
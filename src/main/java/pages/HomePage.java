@@ -3,10 +3,15 @@ package pages;
 import base.BasePage;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import utils.ConfigReader;
+import utils.ConfigSnapshot;
+import utils.StepRetry;
+import utils.TabTracker;
 
 public class HomePage extends BasePage {
 
     private By oneWayRadioButton = By.cssSelector("[data-testid='search-one-way-label']");
+    private By oneWayRadioInput = By.cssSelector("[data-testid='search-one-way-label'] input[type='radio']");
     private By roundTripRadioButton = By.cssSelector("[data-testid='search-round-trip-label']");
     private By cheapFlightCheckbox = By.cssSelector("[data-testid='flight-oneWayCheckbox-checked-label']");
     
@@ -22,36 +27,74 @@ public class HomePage extends BasePage {
     private By returnDateLabel = By.cssSelector("[data-testid='enuygun-homepage-flight-returnDate-label']");
     private By returnDateInput = By.cssSelector("[data-testid='enuygun-homepage-flight-returnDate-datepicker-input']");
     
-    private By departureMonthYearLabel = By.cssSelector("[data-testid='enuygun-homepage-flight-departureDate-month-name-and-year']");
-    private By departureNextMonthButton = By.xpath("(//div[contains(@class, 'jHaclP')])[last()]");
+    // The month scripts take raw selectors rather than By locators; the departure forward button only has an XPath.
+    private static final String DEPARTURE_MONTH_LABEL = "[data-testid='enuygun-homepage-flight-departureDate-month-name-and-year']";
+    private static final String DEPARTURE_NEXT_MONTH_XPATH = "(//div[contains(@class, 'jHaclP')])[last()]";
     
-    private By returnMonthYearLabel = By.cssSelector("[data-testid='enuygun-homepage-flight-returnDate-month-name-and-year']");
-    private By returnNextMonthButton = By.cssSelector("[data-testid='enuygun-homepage-flight-returnDate-month-forward-button']");
+    private static final String RETURN_MONTH_LABEL = "[data-testid='enuygun-homepage-flight-returnDate-month-name-and-year']";
+    private static final String RETURN_NEXT_MONTH = "[data-testid='enuygun-homepage-flight-returnDate-month-forward-button']";
     
     private By searchButton = By.cssSelector("[data-testid='enuygun-homepage-flight-submitButton']");
 
+    private static final String ADVANCE_MONTHS_SCRIPT =
+            "var labelSelector = arguments[0], nextKind = arguments[1], nextValue = arguments[2];"
+            + "var remaining = arguments[3], deadline = Date.now() + arguments[4];"
+            + "var done = arguments[arguments.length - 1];"
+            + "function labels() {"
+            + "  return Array.prototype.map.call(document.querySelectorAll(labelSelector),"
+            + "    function (label) { return label.textContent.trim(); });"
+            + "}"
+            + "function nextButton() {"
+            + "  if (nextKind === 'xpath') {"
+            + "    return document.evaluate(nextValue, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+            + "  }"
+            + "  return document.querySelector(nextValue);"
+            + "}"
+            + "function step() {"
+            + "  var button = nextButton();"
+            + "  if (remaining <= 0 || !button) { done(labels()); return; }"
+            + "  var before = labels().join('|');"
+            + "  button.click();"
+            + "  remaining--;"
+            + "  (function waitForRender() {"
+            + "    if (labels().join('|') !== before) { step(); }"
+            + "    else if (Date.now() > deadline) { done(labels()); }"
+            + "    else { setTimeout(waitForRender, 16); }"
+            + "  })();"
+            + "}"
+            + "step();";
+
     public HomePage(WebDriver driver) {
         super(driver);
+        waitUntilReady();
     }
     
+    // Ready once the search form can be used; the rest of the page may still be loading.
+    @Override
+    protected void waitUntilReady() {
+        long start = System.currentTimeMillis();
+        findElement(originInputButton);
+        findElement(destinationInputButton);
+        findElement(departureDateInput);
+        waitHelper.waitForElementClickable(searchButton);
+        logger.info("Search form ready in {} ms", System.currentTimeMillis() - start);
+    }
+    
+    // The locator only matches the checked state; once unchecked the label's data-testid changes.
     public void disableCheapFlightCheckboxIfChecked() {
-        try {
-            logger.info("Checking if 'Ucuz bilet bul' checkbox is checked...");
-            Thread.sleep(1000);
-            
-            org.openqa.selenium.WebElement checkbox = driver.findElement(cheapFlightCheckbox);
-            
-            if (checkbox != null && checkbox.isDisplayed()) {
-                logger.info("'Ucuz bilet bul' checkbox is CHECKED - clicking to UNCHECK");
-                checkbox.click();
-                Thread.sleep(500);
-                logger.info("'Ucuz bilet bul' checkbox successfully UNCHECKED");
+        logger.info("Checking if 'Ucuz bilet bul' checkbox is checked...");
+        StepRetry.run("disableCheapFlightCheckbox", () -> {
+            java.util.List<org.openqa.selenium.WebElement> checked = driver.findElements(cheapFlightCheckbox);
+            if (checked.isEmpty() || !checked.get(0).isDisplayed()) {
+                logger.info("'Ucuz bilet bul' checkbox is already UNCHECKED or not shown");
+                return;
             }
-        } catch (org.openqa.selenium.NoSuchElementException e) {
-            logger.info("'Ucuz bilet bul' checkbox is already UNCHECKED or not found");
-        } catch (Exception e) {
-            logger.info("Could not interact with 'Ucuz bilet bul' checkbox: " + e.getMessage());
-        }
+            
+            logger.info("'Ucuz bilet bul' checkbox is CHECKED - clicking to UNCHECK");
+            checked.get(0).click();
+            waitHelper.waitForElementInvisible(cheapFlightCheckbox);
+            logger.info("'Ucuz bilet bul' checkbox successfully UNCHECKED");
+        });
     }
 
     public void enterOrigin(String city) {
@@ -60,7 +103,7 @@ public class HomePage extends BasePage {
         
         waitHelper.waitForElementVisible(originAutosuggestionInput);
         type(originAutosuggestionInput, city);
-        logger.info("Entered origin city: " + city);
+        logger.info("Entered origin city: {}", city);
         
         waitHelper.waitForElementVisible(originFirstOption);
         click(originFirstOption);
@@ -73,7 +116,7 @@ public class HomePage extends BasePage {
         
         waitHelper.waitForElementVisible(destinationAutosuggestionInput);
         type(destinationAutosuggestionInput, city);
-        logger.info("Entered destination city: " + city);
+        logger.info("Entered destination city: {}", city);
         
         waitHelper.waitForElementVisible(destinationFirstOption);
         click(destinationFirstOption);
@@ -84,144 +127,118 @@ public class HomePage extends BasePage {
         click(departureDateInput);
         logger.info("Clicked on departure date input to open calendar");
         
-        navigateToMonth(targetMonthYear, departureMonthYearLabel, departureNextMonthButton);
+        navigateToMonth(targetMonthYear, DEPARTURE_MONTH_LABEL, "xpath", DEPARTURE_NEXT_MONTH_XPATH);
         
         By departureDayButton = By.cssSelector("button[title='" + formattedDate + "'][data-testid='datepicker-active-day']");
         waitHelper.waitForElementVisible(departureDayButton);
         click(departureDayButton);
-        logger.info("Selected departure date: " + formattedDate);
+        logger.info("Selected departure date: {}", formattedDate);
     }
     
     public void selectReturnDate(String formattedDate, String targetMonthYear) {
-        try {
-            Thread.sleep(1500);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-        
         waitHelper.waitForElementVisible(returnDateLabel);
         click(returnDateLabel);
         logger.info("Clicked on return date label to open calendar");
         
-        navigateToMonth(targetMonthYear, returnMonthYearLabel, returnNextMonthButton);
+        navigateToMonth(targetMonthYear, RETURN_MONTH_LABEL, "cssSelector", RETURN_NEXT_MONTH);
         
         By returnDayButton = By.cssSelector("button[title='" + formattedDate + "'][data-testid='datepicker-active-day']");
         waitHelper.waitForElementVisible(returnDayButton);
         click(returnDayButton);
-        logger.info("Selected return date: " + formattedDate);
+        logger.info("Selected return date: {}", formattedDate);
     }
     
-    private void navigateToMonth(String targetMonthYear, By monthLabelLocator, By nextButtonLocator) {
-        int maxAttempts = 24;
-        int attempts = 0;
-        String previousMonths = "";
+    // Works out how many months to advance from the first visible label, then clicks the
+    // forward button that many times in a single script, waiting for each re-render in-page.
+    // nextKind is "cssSelector" or "xpath".
+    private void navigateToMonth(String targetMonthYear, String monthLabelSelector, String nextKind, String nextSelector) {
+        waitHelper.waitForElementVisible(By.cssSelector(monthLabelSelector));
+        java.util.List<String> visibleMonths = getVisibleMonths(monthLabelSelector);
         
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
+        if (containsMonth(visibleMonths, targetMonthYear)) {
+            logger.info("Target month already visible: {}", targetMonthYear);
+            return;
         }
         
-        if (isTargetMonthVisible(targetMonthYear, monthLabelLocator)) {
-            logger.info("Target month already visible: " + targetMonthYear);
-            return;
+        java.time.YearMonth target = ConfigSnapshot.parseMonthYear(targetMonthYear);
+        java.time.YearMonth firstVisible = visibleMonths.isEmpty() ? null : ConfigSnapshot.parseMonthYear(visibleMonths.get(0));
+        if (target == null || firstVisible == null) {
+            throw new IllegalStateException("Cannot compute calendar offset for " + targetMonthYear
+                    + ", calendar shows: " + visibleMonths);
         }
         
-        while (attempts < maxAttempts) {
-            String currentMonths = getCurrentVisibleMonths(monthLabelLocator);
-            
-            click(nextButtonLocator);
-            logger.info("Clicked next month button, attempt: " + (attempts + 1));
-            attempts++;
-            
-            try {
-                Thread.sleep(800);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-            
-            if (isTargetMonthVisible(targetMonthYear, monthLabelLocator)) {
-                logger.info("Target month found after " + attempts + " clicks: " + targetMonthYear);
-                return;
-            }
-            
-            String newMonths = getCurrentVisibleMonths(monthLabelLocator);
-            if (currentMonths.equals(newMonths) && !previousMonths.isEmpty()) {
-                logger.warn("Calendar not advancing (reached max limit). Current: " + currentMonths);
-                break;
+        int clicks = (int) firstVisible.until(target, java.time.temporal.ChronoUnit.MONTHS) - (visibleMonths.size() - 1);
+        if (clicks <= 0) {
+            throw new IllegalStateException("Target month " + targetMonthYear
+                    + " is before the visible calendar: " + visibleMonths);
+        }
+        
+        Object result = ((org.openqa.selenium.JavascriptExecutor) driver).executeAsyncScript(ADVANCE_MONTHS_SCRIPT,
+                monthLabelSelector, nextKind, nextSelector, clicks, ConfigReader.getTimeoutDuration().toMillis());
+        java.util.List<String> finalMonths = new java.util.ArrayList<>();
+        if (result instanceof java.util.List) {
+            for (Object month : (java.util.List<?>) result) {
+                finalMonths.add(String.valueOf(month));
             }
-            previousMonths = currentMonths;
         }
         
-        logger.warn("Could not find target month: " + targetMonthYear);
+        if (!containsMonth(finalMonths, targetMonthYear)) {
+            throw new IllegalStateException("Could not find target month " + targetMonthYear
+                    + " after " + clicks + " clicks, calendar shows: " + finalMonths);
+        }
+        logger.info("Target month found after {} clicks: {}", clicks, targetMonthYear);
     }
     
-    private String getCurrentVisibleMonths(By monthLabelLocator) {
-        try {
-            java.util.List<org.openqa.selenium.WebElement> monthLabels = 
-                driver.findElements(monthLabelLocator);
-            StringBuilder months = new StringBuilder();
-            for (org.openqa.selenium.WebElement label : monthLabels) {
-                months.append(label.getText()).append("|");
-            }
-            return months.toString();
-        } catch (Exception e) {
-            return "";
+    private java.util.List<String> getVisibleMonths(String monthLabelSelector) {
+        Object labels = js.executeScript("return Array.prototype.map.call(document.querySelectorAll(arguments[0]),"
+                + " function (label) { return label.textContent.trim(); });", monthLabelSelector);
+        java.util.List<String> months = new java.util.ArrayList<>();
+        for (Object label : (java.util.List<?>) labels) {
+            months.add(String.valueOf(label));
         }
+        return months;
     }
     
-    private boolean isTargetMonthVisible(String targetMonthYear, By monthLabelLocator) {
-        try {
-            java.util.List<org.openqa.selenium.WebElement> monthLabels = 
-                driver.findElements(monthLabelLocator);
-            
-            for (org.openqa.selenium.WebElement label : monthLabels) {
-                String monthText = label.getText().trim();
-                logger.info("Checking calendar month: '" + monthText + "' vs target: '" + targetMonthYear + "'");
-                
-                if (monthText.equalsIgnoreCase(targetMonthYear)) {
-                    logger.info("MATCH FOUND! (case insensitive)");
-                    return true;
-                }
-                
-                if (monthText.equals(targetMonthYear)) {
-                    logger.info("MATCH FOUND! (exact)");
-                    return true;
-                }
+    private boolean containsMonth(java.util.List<String> months, String targetMonthYear) {
+        for (String month : months) {
+            if (month.equalsIgnoreCase(targetMonthYear)) {
+                return true;
             }
-            logger.info("No match found in visible months");
-            return false;
-        } catch (Exception e) {
-            logger.error("Error checking target month: " + e.getMessage());
-            return false;
         }
+        return false;
     }
     
     public void selectOneWayTrip() {
-        try {
-            logger.info("Selecting one-way trip...");
-            
-            waitHelper.waitForElementVisible(oneWayRadioButton);
-            Thread.sleep(500);
-            
-            js.executeScript("arguments[0].scrollIntoView({block: 'center'});", 
-                driver.findElement(oneWayRadioButton));
-            Thread.sleep(300);
-            
-            js.executeScript("arguments[0].click();", driver.findElement(oneWayRadioButton));
-            Thread.sleep(1000);
-            
-            logger.info("One-way trip selected successfully");
-            
-        } catch (Exception e) {
-            logger.error("Error selecting one-way trip: " + e.getMessage());
-            e.printStackTrace();
+        logger.info("Selecting one-way trip...");
+        StepRetry.run("selectOneWayTrip", () -> {
+            org.openqa.selenium.WebElement oneWayRadio = waitHelper.waitForElementClickable(oneWayRadioButton);
+            js.executeScript("arguments[0].scrollIntoView({block: 'center'});", oneWayRadio);
+            js.executeScript("arguments[0].click();", oneWayRadio);
+            waitHelper.waitUntil(webDriver -> isOneWaySelected());
+        });
+        logger.info("One-way trip selected successfully");
+    }
+    
+    // One-way is selected once its radio is ticked or, where the label has no radio, the return date is hidden.
+    private boolean isOneWaySelected() {
+        for (org.openqa.selenium.WebElement radio : driver.findElements(oneWayRadioInput)) {
+            if (radio.isSelected()) {
+                return true;
+            }
+        }
+        for (org.openqa.selenium.WebElement label : driver.findElements(returnDateLabel)) {
+            if (label.isDisplayed()) {
+                return false;
+            }
         }
+        return true;
     }
     
     public void clickSearchButton() {
         waitHelper.waitForElementClickable(searchButton);
+        TabTracker.mark(driver);
         click(searchButton);
+        invalidateElementCache();
         logger.info("Clicked search button - navigating to flight results");
     }
 }
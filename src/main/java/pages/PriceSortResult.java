@@ -0,0 +1,16 @@
+package pages;
+
+public record PriceSortResult(boolean success, double[] prices, String priceDetails, String message) {
+
+    public int flightCount() {
+        return prices.length;
+    }
+
+    public double minPrice() {
+        return prices.length == 0 ? 0.0 : prices[0];
+    }
+
+    public double maxPrice() {
+        return prices.length == 0 ? 0.0 : prices[prices.length - 1];
+    }
+}
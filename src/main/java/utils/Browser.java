@@ -0,0 +1,21 @@
+package utils;
+
+public enum Browser {
+    CHROME,
+    FIREFOX;
+
+    public static Browser from(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return CHROME;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase(java.util.Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Unsupported browser in config: " + name);
+        }
+    }
+
+    public String key() {
+        return name().toLowerCase(java.util.Locale.ROOT);
+    }
+}
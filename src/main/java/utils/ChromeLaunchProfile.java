@@ -0,0 +1,55 @@
+package utils;
+
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.util.Map;
+
+public enum ChromeLaunchProfile {
+    // The original launch arguments.
+    DEFAULT,
+    // Always headless (new mode) at a fixed size, with images, extensions, GPU and background
+    // throttling off.
+    PERFORMANCE;
+
+    public static ChromeLaunchProfile from(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return DEFAULT;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase(java.util.Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Unsupported chromeProfile in config: " + name);
+        }
+    }
+
+    public ChromeOptions createOptions(boolean headless) {
+        ChromeOptions options = new ChromeOptions();
+        switch (this) {
+            case PERFORMANCE:
+                options.addArguments(
+                        "--headless=new",
+                        "--window-size=1920,1080",
+                        "--disable-extensions",
+                        "--disable-gpu",
+                        "--disable-notifications",
+                        "--disable-background-timer-throttling",
+                        "--disable-backgrounding-occluded-windows",
+                        "--disable-renderer-backgrounding",
+                        "--disable-background-networking",
+                        "--no-first-run",
+                        "--no-default-browser-check");
+                options.setExperimentalOption("prefs", Map.of("profile.managed_default_content_settings.images", 2));
+                break;
+
+            case DEFAULT:
+            default:
+                if (headless) {
+                    options.addArguments("--headless");
+                }
+                options.addArguments("--disable-notifications");
+                options.addArguments("--start-maximized");
+                break;
+        }
+        return options;
+    }
+}
@@ -0,0 +1,67 @@
+package utils;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+// A Chrome profile created once and copied for every new session, so Chrome skips first-run
+// profile setup (and, when seeded with a page, starts with a warm HTTP cache). Copies live in the
+// temp directory and are deleted by cleanUp() after the suite.
+public class ChromeUserDataTemplate {
+    private static final Logger logger = LogManager.getLogger(ChromeUserDataTemplate.class);
+
+    private static final List<Path> copies = new CopyOnWriteArrayList<>();
+
+    public static Path copy(Path template, Supplier<ChromeOptions> seedOptions, String seedUrl) {
+        seedIfMissing(template, seedOptions, seedUrl);
+        try {
+            Path copy = Files.createTempDirectory("chrome-profile-");
+            // Singleton* are the running browser's lock files and must not be carried over.
+            FileUtils.copyDirectory(template.toFile(), copy.toFile(),
+                    file -> !file.getName().startsWith("Singleton"));
+            copies.add(copy);
+            return copy;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not copy Chrome profile template " + template, e);
+        }
+    }
+
+    public static void cleanUp() {
+        for (Path copy : copies) {
+            FileUtils.deleteQuietly(copy.toFile());
+        }
+        copies.clear();
+    }
+
+    private static synchronized void seedIfMissing(Path template, Supplier<ChromeOptions> seedOptions, String seedUrl) {
+        File marker = template.resolve("Local State").toFile();
+        if (marker.exists()) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        ChromeOptions options = seedOptions.get();
+        options.addArguments("--user-data-dir=" + template.toAbsolutePath());
+        WebDriver seed = new ChromeDriver(options);
+        try {
+            if (seedUrl != null && !seedUrl.isEmpty()) {
+                seed.get(seedUrl);
+            }
+        } finally {
+            seed.quit();
+        }
+        logger.info("Seeded Chrome profile template {} in {} ms", template.toAbsolutePath(), System.currentTimeMillis() - start);
+    }
+}
@@ -1,133 +1,227 @@
 package utils;
 
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
-import java.util.Properties;
+import org.openqa.selenium.PageLoadStrategy;
+
+import java.time.Duration;
+import java.util.List;
 
 public class ConfigReader {
-    private static Properties properties;
+    // Parsed once; everything below reads precomputed fields of the snapshot.
+    private static final ConfigSnapshot config = ConfigSnapshot.load();
 
-    static {
-        try {
-            FileInputStream file = new FileInputStream("src/main/resources/config.properties");
-            InputStreamReader reader = new InputStreamReader(file, StandardCharsets.UTF_8);
-            properties = new Properties();
-            properties.load(reader);
-            reader.close();
-            file.close();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+    public static ConfigSnapshot snapshot() {
+        return config;
     }
 
     public static String getProperty(String key) {
-        return properties.getProperty(key);
+        return config.getProperty(key);
     }
 
-    public static String getBrowser() {
-        return properties.getProperty("browser");
+    public static Browser getBrowser() {
+        return config.getBrowser();
     }
 
     public static boolean isHeadless() {
-        return Boolean.parseBoolean(properties.getProperty("headless"));
+        return config.isHeadless();
+    }
+
+    public static ChromeLaunchProfile getChromeProfile() {
+        return config.getChromeProfile();
+    }
+
+    public static String getChromeUserDataTemplate() {
+        return config.getChromeUserDataTemplate();
+    }
+
+    public static PageLoadStrategy getPageLoadStrategy() {
+        return config.getPageLoadStrategy();
     }
 
     public static int getTimeout() {
-        return Integer.parseInt(properties.getProperty("timeout"));
+        return (int) config.getTimeout().toSeconds();
+    }
+
+    public static Duration getTimeoutDuration() {
+        return config.getTimeout();
+    }
+
+    public static ParallelMode getParallelMode() {
+        return config.getParallelMode();
+    }
+
+    public static int getThreadCount() {
+        return config.getThreadCount();
+    }
+
+    public static int getDataProviderThreadCount() {
+        return config.getDataProviderThreadCount();
+    }
+
+    public static WaitStrategy getWaitStrategy() {
+        return config.getWaitStrategy();
+    }
+
+    public static int getSettleQuietPeriod() {
+        return config.getSettleQuietPeriod();
+    }
+
+    public static boolean isStepMetricsEnabled() {
+        return config.isStepMetricsEnabled();
+    }
+
+    public static String getStepMetricsPath() {
+        return config.getStepMetricsPath();
+    }
+
+    public static boolean isDriverPoolEnabled() {
+        return config.isDriverPoolEnabled();
+    }
+
+    public static int getDriverPoolMinSize() {
+        return config.getDriverPoolMinSize();
+    }
+
+    public static int getDriverPoolMaxSize() {
+        return config.getDriverPoolMaxSize();
+    }
+
+    public static Duration getDriverPoolIdleTimeout() {
+        return config.getDriverPoolIdleTimeout();
+    }
+
+    public static Duration getDriverPoolLeaseTimeout() {
+        return config.getDriverPoolLeaseTimeout();
+    }
+
+    public static String getPinnedDriverPath(Browser browser) {
+        return config.getPinnedDriverPath(browser);
+    }
+
+    public static String getDriverManifestPath() {
+        return config.getDriverManifestPath();
+    }
+
+    public static boolean isOfflineMode() {
+        return config.isOfflineMode();
+    }
+
+    public static int getOfflinePort() {
+        return config.getOfflinePort();
+    }
+
+    public static boolean isRequestBlockingEnabled() {
+        return config.isRequestBlockingEnabled();
+    }
+
+    public static List<String> getBlockedHosts() {
+        return config.getBlockedHosts();
+    }
+
+    public static List<String> getBlockedUrlPatterns() {
+        return config.getBlockedUrlPatterns();
+    }
+
+    public static List<String> getAllowedHosts() {
+        return config.getAllowedHosts();
     }
 
     public static String getBaseUrl() {
-        return properties.getProperty("baseUrl");
+        return config.getBaseUrl();
     }
 
     public static String getScreenshotPath() {
-        return properties.getProperty("screenshotPath");
+        return config.getScreenshotPath();
+    }
+
+    public static boolean isSharedBrowser() {
+        return config.isSharedBrowser();
+    }
+
+    public static boolean isElementCacheEnabled() {
+        return config.isElementCacheEnabled();
+    }
+
+    public static int getStepRetryAttempts() {
+        return config.getStepRetryAttempts();
+    }
+
+    public static Duration getStepRetryBackoff() {
+        return config.getStepRetryBackoff();
+    }
+
+    public static Duration getStepRetryMaxBackoff() {
+        return config.getStepRetryMaxBackoff();
+    }
+
+    public static Duration getStepRetryBudget() {
+        return config.getStepRetryBudget();
+    }
+
+    public static boolean isCheckpointsEnabled() {
+        return config.isCheckpointsEnabled();
+    }
+
+    public static Duration getCheckpointTtl() {
+        return config.getCheckpointTtl();
+    }
+
+    public static String getRouteMatrixFile() {
+        return config.getRouteMatrixFile();
+    }
+
+    public static Duration getRouteMatrixTimeBudget() {
+        return config.getRouteMatrixTimeBudget();
     }
 
     public static String getOriginCity() {
-        return properties.getProperty("originCity");
+        return config.getOriginCity();
     }
 
     public static String getDestinationCity() {
-        return properties.getProperty("destinationCity");
+        return config.getDestinationCity();
     }
 
     public static String getDepartureDate() {
-        return properties.getProperty("departureDate");
+        return config.getDepartureDate().raw();
     }
 
     public static String getReturnDate() {
-        return properties.getProperty("returnDate");
+        return config.getReturnDate().raw();
     }
 
     public static String getDepartureDay() {
-        String date = properties.getProperty("departureDate");
-        return date.split("\\.")[0];
+        return config.getDepartureDate().day();
     }
 
     public static String getReturnDay() {
-        String date = properties.getProperty("returnDate");
-        return date.split("\\.")[0];
+        return config.getReturnDate().day();
     }
 
     public static String getFormattedDepartureDate() {
-        String date = properties.getProperty("departureDate");
-        String[] parts = date.split("\\.");
-        return parts[2] + "-" + parts[1] + "-" + parts[0];
+        return config.getDepartureDate().formatted();
     }
 
     public static String getFormattedReturnDate() {
-        String date = properties.getProperty("returnDate");
-        String[] parts = date.split("\\.");
-        return parts[2] + "-" + parts[1] + "-" + parts[0];
+        return config.getReturnDate().formatted();
     }
 
     public static String getDepartureMonthYear() {
-        String date = properties.getProperty("departureDate");
-        String[] parts = date.split("\\.");
-        return getMonthName(parts[1]) + " " + parts[2];
+        return config.getDepartureDate().monthYear();
     }
 
     public static String getReturnMonthYear() {
-        String date = properties.getProperty("returnDate");
-        String[] parts = date.split("\\.");
-        return getMonthName(parts[1]) + " " + parts[2];
+        return config.getReturnDate().monthYear();
     }
 
     public static String getOneWayDepartureDate() {
-        return properties.getProperty("oneWayDepartureDate");
+        return config.getOneWayDepartureDate().raw();
     }
 
     public static String getFormattedOneWayDepartureDate() {
-        String date = properties.getProperty("oneWayDepartureDate");
-        String[] parts = date.split("\\.");
-        return parts[2] + "-" + parts[1] + "-" + parts[0];
+        return config.getOneWayDepartureDate().formatted();
     }
 
     public static String getOneWayDepartureMonthYear() {
-        String date = properties.getProperty("oneWayDepartureDate");
-        String[] parts = date.split("\\.");
-        return getMonthName(parts[1]) + " " + parts[2];
-    }
-
-    private static String getMonthName(String month) {
-        switch (month) {
-            case "01": return "Ocak";
-            case "02": return "Şubat";
-            case "03": return "Mart";
-            case "04": return "Nisan";
-            case "05": return "Mayıs";
-            case "06": return "Haziran";
-            case "07": return "Temmuz";
-            case "08": return "Ağustos";
-            case "09": return "Eylül";
-            case "10": return "Ekim";
-            case "11": return "Kasım";
-            case "12": return "Aralık";
-            default: return "";
-        }
+        return config.getOneWayDepartureDate().monthYear();
     }
 }
-
@@ -0,0 +1,459 @@
+package utils;
+
+import org.openqa.selenium.PageLoadStrategy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Function;
+
+public final class ConfigSnapshot {
+    private static final String RESOURCE = "config.properties";
+    private static final DateTimeFormatter CONFIG_DATE = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+    private static final DateTimeFormatter ISO_DATE = DateTimeFormatter.ISO_LOCAL_DATE;
+    private static final String[] MONTH_NAMES = {
+            "Ocak", "Şubat", "Mart", "Nisan", "Mayıs", "Haziran",
+            "Temmuz", "Ağustos", "Eylül", "Ekim", "Kasım", "Aralık"
+    };
+
+    private final Function<String, String> overrides;
+    // Filled only while the constructor runs: every file key, plus each key a typed getter reads.
+    private final Map<String, String> values = new HashMap<>();
+
+    private final Browser browser;
+    private final boolean headless;
+    private final ChromeLaunchProfile chromeProfile;
+    private final String chromeUserDataTemplate;
+    private final PageLoadStrategy pageLoadStrategy;
+    private final Duration timeout;
+    private final String baseUrl;
+    private final boolean offlineMode;
+    private final int offlinePort;
+    private final String screenshotPath;
+    private final WaitStrategy waitStrategy;
+    private final int settleQuietPeriod;
+    private final boolean stepMetrics;
+    private final String stepMetricsPath;
+
+    private final String chromeDriverPath;
+    private final String geckoDriverPath;
+    private final String driverManifestPath;
+
+    private final boolean requestBlocking;
+    private final List<String> blockedHosts;
+    private final List<String> blockedUrlPatterns;
+    private final List<String> allowedHosts;
+
+    private final ParallelMode parallelMode;
+    private final int threadCount;
+    private final int dataProviderThreadCount;
+
+    private final boolean driverPoolEnabled;
+    private final int driverPoolMinSize;
+    private final int driverPoolMaxSize;
+    private final Duration driverPoolIdleTimeout;
+    private final Duration driverPoolLeaseTimeout;
+
+    private final boolean sharedBrowser;
+    private final boolean elementCache;
+    private final int stepRetryAttempts;
+    private final Duration stepRetryBackoff;
+    private final Duration stepRetryMaxBackoff;
+    private final Duration stepRetryBudget;
+    private final boolean checkpoints;
+    private final Duration checkpointTtl;
+
+    private final String routeMatrixFile;
+    private final Duration routeMatrixTimeBudget;
+
+    private final String originCity;
+    private final String destinationCity;
+    private final TravelDate departureDate;
+    private final TravelDate returnDate;
+    private final TravelDate oneWayDepartureDate;
+
+    private ConfigSnapshot(Map<String, String> fileValues, Function<String, String> overrides) {
+        this.overrides = overrides;
+        fileValues.forEach((key, value) -> {
+            String override = overrides.apply(key);
+            values.put(key, override != null ? override.trim() : value);
+        });
+
+        this.browser = Browser.from(get("browser", "chrome"));
+        this.headless = Boolean.parseBoolean(get("headless", "false"));
+        this.chromeProfile = ChromeLaunchProfile.from(get("chromeProfile", "default"));
+        this.chromeUserDataTemplate = get("chromeUserDataTemplate", "");
+        this.pageLoadStrategy = parsePageLoadStrategy(get("pageLoadStrategy", "eager"));
+        this.timeout = Duration.ofSeconds(getInt("timeout", 10));
+        this.baseUrl = get("baseUrl", "https://www.enuygun.com");
+        this.offlineMode = "offline".equalsIgnoreCase(get("mode", "online"));
+        this.offlinePort = getInt("offlinePort", 0);
+        this.screenshotPath = get("screenshotPath", "test-output/screenshots/");
+        this.waitStrategy = WaitStrategy.from(get("waitStrategy", "polling"));
+        this.settleQuietPeriod = getInt("settleQuietPeriod", 500);
+        this.stepMetrics = Boolean.parseBoolean(get("stepMetrics", "false"));
+        this.stepMetricsPath = get("stepMetricsPath", "test-output/step-metrics/");
+
+        this.chromeDriverPath = get("chromeDriverPath", "");
+        this.geckoDriverPath = get("geckoDriverPath", "");
+        this.driverManifestPath = get("driverManifestPath", "");
+
+        this.requestBlocking = Boolean.parseBoolean(get("requestBlocking", "false"));
+        this.blockedHosts = getList("blockedHosts");
+        this.blockedUrlPatterns = getList("blockedUrlPatterns");
+        this.allowedHosts = getList("allowedHosts");
+
+        this.parallelMode = ParallelMode.from(get("parallel", "none"));
+        String threads = get("threadCount", "");
+        this.threadCount = threads.isEmpty() || threads.equals("auto")
+                ? Runtime.getRuntime().availableProcessors()
+                : getInt("threadCount", 1);
+        this.dataProviderThreadCount = getInt("dataProviderThreadCount", threadCount);
+
+        this.sharedBrowser = Boolean.parseBoolean(get("sharedBrowser", "false"));
+        this.driverPoolEnabled = Boolean.parseBoolean(get("driverPoolEnabled", "false"));
+        this.driverPoolMinSize = getInt("driverPoolMinSize", 1);
+        this.driverPoolMaxSize = getInt("driverPoolMaxSize", 4);
+        this.driverPoolIdleTimeout = Duration.ofSeconds(getInt("driverPoolIdleTimeout", 300));
+        this.driverPoolLeaseTimeout = Duration.ofSeconds(getInt("driverPoolLeaseTimeout", 120));
+
+        this.elementCache = Boolean.parseBoolean(get("elementCache", "false"));
+        this.stepRetryAttempts = Math.max(1, getInt("stepRetryAttempts", 1));
+        this.stepRetryBackoff = Duration.ofMillis(getInt("stepRetryBackoff", 250));
+        this.stepRetryMaxBackoff = Duration.ofMillis(getInt("stepRetryMaxBackoff", 2000));
+        this.stepRetryBudget = Duration.ofSeconds(getInt("stepRetryBudget", 30));
+
+        this.checkpoints = Boolean.parseBoolean(get("checkpoints", "false"));
+        this.checkpointTtl = Duration.ofSeconds(getInt("checkpointTtl", 600));
+
+        this.routeMatrixFile = get("routeMatrixFile", "routes.csv");
+        this.routeMatrixTimeBudget = Duration.ofSeconds(getInt("routeMatrixTimeBudget", 0));
+
+        this.originCity = get("originCity", "");
+        this.destinationCity = get("destinationCity", "");
+        this.departureDate = TravelDate.parse("departureDate", get("departureDate", ""));
+        this.returnDate = TravelDate.parse("returnDate", get("returnDate", ""));
+        this.oneWayDepartureDate = TravelDate.parse("oneWayDepartureDate", get("oneWayDepartureDate", ""));
+    }
+
+    // Layers, lowest to highest precedence: classpath config.properties, environment
+    // variables (driverPoolMaxSize -> DRIVER_POOL_MAX_SIZE), then -D system properties.
+    public static ConfigSnapshot load() {
+        Properties file = new Properties();
+        try (InputStream input = ConfigSnapshot.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (input == null) {
+                throw new IllegalStateException(RESOURCE + " not found on the classpath");
+            }
+            file.load(new InputStreamReader(input, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read " + RESOURCE, e);
+        }
+
+        Map<String, String> fileValues = new HashMap<>();
+        for (String key : file.stringPropertyNames()) {
+            fileValues.put(key, file.getProperty(key).trim());
+        }
+        return new ConfigSnapshot(fileValues, ConfigSnapshot::override);
+    }
+
+    // For tests: a snapshot of the given file values and overrides, without touching the classpath or environment.
+    static ConfigSnapshot of(Map<String, String> fileValues, Map<String, String> overrides) {
+        return new ConfigSnapshot(fileValues, overrides::get);
+    }
+
+    private static String override(String key) {
+        String systemValue = System.getProperty(key);
+        if (systemValue != null) {
+            return systemValue;
+        }
+        return System.getenv(toEnvName(key));
+    }
+
+    static String toEnvName(String key) {
+        StringBuilder name = new StringBuilder(key.length() + 8);
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (Character.isUpperCase(c) && i > 0) {
+                name.append('_');
+            }
+            name.append(c == '.' ? '_' : Character.toUpperCase(c));
+        }
+        return name.toString();
+    }
+
+    // Overrides are looked up for every key read here, so a new setting needs no separate key list.
+    private String get(String key, String defaultValue) {
+        if (!values.containsKey(key)) {
+            String override = overrides.apply(key);
+            if (override != null) {
+                values.put(key, override.trim());
+            }
+        }
+        String value = values.get(key);
+        return value == null ? defaultValue : value;
+    }
+
+    private int getInt(String key, int defaultValue) {
+        String value = get(key, null);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Config value '" + key + "' is not a number: " + value);
+        }
+    }
+
+    private static PageLoadStrategy parsePageLoadStrategy(String value) {
+        PageLoadStrategy strategy = PageLoadStrategy.fromString(value.trim().toLowerCase(Locale.ROOT));
+        if (strategy == null) {
+            throw new IllegalStateException("Unsupported pageLoadStrategy in config: " + value);
+        }
+        return strategy;
+    }
+
+    private List<String> getList(String key) {
+        List<String> list = new ArrayList<>();
+        for (String value : get(key, "").split(",")) {
+            if (!value.trim().isEmpty()) {
+                list.add(value.trim());
+            }
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    public String getProperty(String key) {
+        String value = values.get(key);
+        if (value != null) {
+            return value;
+        }
+        String override = overrides.apply(key);
+        return override == null ? null : override.trim();
+    }
+
+    public Browser getBrowser() {
+        return browser;
+    }
+
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    public ChromeLaunchProfile getChromeProfile() {
+        return chromeProfile;
+    }
+
+    public String getChromeUserDataTemplate() {
+        return chromeUserDataTemplate;
+    }
+
+    public PageLoadStrategy getPageLoadStrategy() {
+        return pageLoadStrategy;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public boolean isOfflineMode() {
+        return offlineMode;
+    }
+
+    public int getOfflinePort() {
+        return offlinePort;
+    }
+
+    public String getScreenshotPath() {
+        return screenshotPath;
+    }
+
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    public int getSettleQuietPeriod() {
+        return settleQuietPeriod;
+    }
+
+    public boolean isStepMetricsEnabled() {
+        return stepMetrics;
+    }
+
+    public String getStepMetricsPath() {
+        return stepMetricsPath;
+    }
+
+    public String getPinnedDriverPath(Browser browser) {
+        return browser == Browser.FIREFOX ? geckoDriverPath : chromeDriverPath;
+    }
+
+    public String getDriverManifestPath() {
+        return driverManifestPath;
+    }
+
+    public boolean isRequestBlockingEnabled() {
+        return requestBlocking;
+    }
+
+    public List<String> getBlockedHosts() {
+        return blockedHosts;
+    }
+
+    public List<String> getBlockedUrlPatterns() {
+        return blockedUrlPatterns;
+    }
+
+    public List<String> getAllowedHosts() {
+        return allowedHosts;
+    }
+
+    public ParallelMode getParallelMode() {
+        return parallelMode;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public int getDataProviderThreadCount() {
+        return dataProviderThreadCount;
+    }
+
+    public boolean isDriverPoolEnabled() {
+        return driverPoolEnabled;
+    }
+
+    public int getDriverPoolMinSize() {
+        return driverPoolMinSize;
+    }
+
+    public int getDriverPoolMaxSize() {
+        return driverPoolMaxSize;
+    }
+
+    public Duration getDriverPoolIdleTimeout() {
+        return driverPoolIdleTimeout;
+    }
+
+    public Duration getDriverPoolLeaseTimeout() {
+        return driverPoolLeaseTimeout;
+    }
+
+    public boolean isSharedBrowser() {
+        return sharedBrowser;
+    }
+
+    public boolean isElementCacheEnabled() {
+        return elementCache;
+    }
+
+    public int getStepRetryAttempts() {
+        return stepRetryAttempts;
+    }
+
+    public Duration getStepRetryBackoff() {
+        return stepRetryBackoff;
+    }
+
+    public Duration getStepRetryMaxBackoff() {
+        return stepRetryMaxBackoff;
+    }
+
+    public Duration getStepRetryBudget() {
+        return stepRetryBudget;
+    }
+
+    public boolean isCheckpointsEnabled() {
+        return checkpoints;
+    }
+
+    public Duration getCheckpointTtl() {
+        return checkpointTtl;
+    }
+
+    public String getRouteMatrixFile() {
+        return routeMatrixFile;
+    }
+
+    public Duration getRouteMatrixTimeBudget() {
+        return routeMatrixTimeBudget;
+    }
+
+    public String getOriginCity() {
+        return originCity;
+    }
+
+    public String getDestinationCity() {
+        return destinationCity;
+    }
+
+    public TravelDate getDepartureDate() {
+        return departureDate;
+    }
+
+    public TravelDate getReturnDate() {
+        return returnDate;
+    }
+
+    public TravelDate getOneWayDepartureDate() {
+        return oneWayDepartureDate;
+    }
+
+    public static String formatMonthYear(YearMonth month) {
+        return MONTH_NAMES[month.getMonthValue() - 1] + " " + month.getYear();
+    }
+
+    // Inverse of formatMonthYear for calendar labels such as "Ocak 2026"; null if unrecognised.
+    public static YearMonth parseMonthYear(String text) {
+        String[] parts = text.trim().split("\\s+");
+        if (parts.length != 2) {
+            return null;
+        }
+        for (int i = 0; i < MONTH_NAMES.length; i++) {
+            if (MONTH_NAMES[i].equalsIgnoreCase(parts[0])) {
+                try {
+                    return YearMonth.of(Integer.parseInt(parts[1]), i + 1);
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    public record TravelDate(LocalDate date, String raw, String day, String formatted, String monthYear) {
+
+        static TravelDate parse(String key, String raw) {
+            if (raw == null || raw.isEmpty()) {
+                return null;
+            }
+            try {
+                LocalDate date = LocalDate.parse(raw, CONFIG_DATE);
+                return new TravelDate(date, raw,
+                        String.format(Locale.ROOT, "%02d", date.getDayOfMonth()),
+                        date.format(ISO_DATE),
+                        formatMonthYear(YearMonth.from(date)));
+            } catch (DateTimeParseException e) {
+                throw new IllegalStateException("Config value '" + key + "' is not a dd.MM.yyyy date: " + raw);
+            }
+        }
+    }
+}
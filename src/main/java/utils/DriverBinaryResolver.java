@@ -0,0 +1,164 @@
+package utils;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.SessionNotCreatedException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+public class DriverBinaryResolver {
+    private static final Logger logger = LogManager.getLogger(DriverBinaryResolver.class);
+
+    private static final Map<Browser, String> resolvedPaths = new ConcurrentHashMap<>();
+    private static final Set<Browser> fromManifest = ConcurrentHashMap.newKeySet();
+    private static final Object reresolveLock = new Object();
+
+    public static String resolve(Browser browser) {
+        return resolvedPaths.computeIfAbsent(browser, DriverBinaryResolver::resolveOnce);
+    }
+
+    // A manifest entry outlives browser upgrades. If the cached driver can no longer start a
+    // session, the entry is dropped, the driver is resolved again through WebDriverManager (which
+    // matches it to the installed browser) and the session is started once more.
+    public static <T> T startSession(Browser browser, Supplier<T> newSession) {
+        String path = resolve(browser);
+        try {
+            return newSession.get();
+        } catch (SessionNotCreatedException e) {
+            if (!replaceManifestPath(browser, path)) {
+                throw e;
+            }
+            logger.warn("{} driver from manifest could not start a session, retrying with {}", browser.key(), resolvedPaths.get(browser));
+            return newSession.get();
+        }
+    }
+
+    private static boolean replaceManifestPath(Browser browser, String failedPath) {
+        synchronized (reresolveLock) {
+            if (failedPath != null && !failedPath.equals(resolvedPaths.get(browser))) {
+                // Another session already replaced it.
+                return true;
+            }
+            if (!fromManifest.remove(browser)) {
+                return false;
+            }
+            logger.warn("Dropping stale {} driver from manifest: {}", browser.key(), failedPath);
+            updateManifest(getManifestPath(), browser.key(), null);
+            String resolvedPath = resolveWithManager(browser);
+            if (resolvedPath != null) {
+                resolvedPaths.put(browser, resolvedPath);
+            } else {
+                resolvedPaths.remove(browser);
+            }
+            return true;
+        }
+    }
+
+    private static String resolveOnce(Browser browser) {
+        String systemProperty = getSystemPropertyKey(browser);
+
+        String pinnedPath = ConfigReader.getPinnedDriverPath(browser);
+        if (pinnedPath != null && !pinnedPath.isEmpty()) {
+            if (!new File(pinnedPath).canExecute()) {
+                throw new IllegalStateException("Pinned " + browser.key() + " driver is not executable: " + pinnedPath);
+            }
+            System.setProperty(systemProperty, pinnedPath);
+            logger.info("Using pinned {} driver: {}", browser.key(), pinnedPath);
+            return pinnedPath;
+        }
+
+        String cachedPath = readManifest(getManifestPath()).getProperty(browser.key());
+        if (cachedPath != null && new File(cachedPath).canExecute()) {
+            System.setProperty(systemProperty, cachedPath);
+            fromManifest.add(browser);
+            logger.info("Using {} driver from manifest: {}", browser.key(), cachedPath);
+            return cachedPath;
+        }
+
+        return resolveWithManager(browser);
+    }
+
+    private static String resolveWithManager(Browser browser) {
+        long start = System.currentTimeMillis();
+        WebDriverManager manager = browser == Browser.FIREFOX
+                ? WebDriverManager.firefoxdriver()
+                : WebDriverManager.chromedriver();
+        manager.setup();
+
+        String resolvedPath = manager.getDownloadedDriverPath();
+        if (resolvedPath == null) {
+            resolvedPath = System.getProperty(getSystemPropertyKey(browser));
+        }
+        logger.info("Resolved {} driver in {} ms: {}", browser.key(), System.currentTimeMillis() - start, resolvedPath);
+
+        if (resolvedPath != null) {
+            updateManifest(getManifestPath(), browser.key(), resolvedPath);
+        }
+        return resolvedPath;
+    }
+
+    private static String getSystemPropertyKey(Browser browser) {
+        return browser == Browser.FIREFOX ? "webdriver.gecko.driver" : "webdriver.chrome.driver";
+    }
+
+    static Properties readManifest(Path manifestPath) {
+        Properties manifest = new Properties();
+        if (manifestPath == null || !Files.isRegularFile(manifestPath)) {
+            return manifest;
+        }
+
+        try (InputStream input = Files.newInputStream(manifestPath)) {
+            manifest.load(input);
+        } catch (IOException e) {
+            logger.warn("Could not read driver manifest {}: {}", manifestPath, e.getMessage());
+        }
+        return manifest;
+    }
+
+    // Sets the entry for the browser, or removes it when driverPath is null.
+    static synchronized void updateManifest(Path manifestPath, String browser, String driverPath) {
+        if (manifestPath == null) {
+            return;
+        }
+
+        Properties manifest = readManifest(manifestPath);
+        if (driverPath == null) {
+            if (manifest.remove(browser) == null) {
+                return;
+            }
+        } else {
+            manifest.setProperty(browser, driverPath);
+        }
+
+        try {
+            if (manifestPath.getParent() != null) {
+                Files.createDirectories(manifestPath.getParent());
+            }
+            Path tempFile = Files.createTempFile(manifestPath.toAbsolutePath().getParent(), "drivers", ".tmp");
+            try (OutputStream output = Files.newOutputStream(tempFile)) {
+                manifest.store(output, "Resolved WebDriver binaries");
+            }
+            Files.move(tempFile, manifestPath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warn("Could not write driver manifest {}: {}", manifestPath, e.getMessage());
+        }
+    }
+
+    private static Path getManifestPath() {
+        String manifestPath = ConfigReader.getDriverManifestPath();
+        return manifestPath == null || manifestPath.isEmpty() ? null : Paths.get(manifestPath);
+    }
+}
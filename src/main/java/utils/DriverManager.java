@@ -1,58 +1,129 @@
 package utils;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 public class DriverManager {
     private static ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    private static volatile DriverPool pool;
 
     public static WebDriver getDriver() {
         if (driver.get() == null) {
-            driver.set(createDriver());
+            driver.set(ConfigReader.isDriverPoolEnabled() ? getPool().lease() : createDriver());
         }
         return driver.get();
     }
 
+    public static WebDriver getCurrentDriver() {
+        return driver.get();
+    }
+
+    private static DriverPool getPool() {
+        if (pool == null) {
+            synchronized (DriverManager.class) {
+                if (pool == null) {
+                    DriverPool newPool = new DriverPool(
+                            DriverManager::createDriver,
+                            ConfigReader.getDriverPoolMinSize(),
+                            ConfigReader.getDriverPoolMaxSize(),
+                            ConfigReader.getDriverPoolIdleTimeout().toMillis(),
+                            ConfigReader.getDriverPoolLeaseTimeout().toMillis());
+                    newPool.warmUp();
+                    pool = newPool;
+                }
+            }
+        }
+        return pool;
+    }
+
     private static WebDriver createDriver() {
-        String browser = ConfigReader.getBrowser().toLowerCase();
+        Browser browser = ConfigReader.getBrowser();
         boolean headless = ConfigReader.isHeadless();
 
         WebDriver webDriver;
 
         switch (browser) {
-            case "firefox":
-                WebDriverManager.firefoxdriver().setup();
+            case FIREFOX:
                 FirefoxOptions firefoxOptions = new FirefoxOptions();
                 if (headless) {
                     firefoxOptions.addArguments("--headless");
                 }
-                webDriver = new FirefoxDriver(firefoxOptions);
+                firefoxOptions.setPageLoadStrategy(ConfigReader.getPageLoadStrategy());
+                webDriver = DriverBinaryResolver.startSession(Browser.FIREFOX, () -> new FirefoxDriver(firefoxOptions));
                 break;
 
-            case "chrome":
+            case CHROME:
             default:
-                WebDriverManager.chromedriver().setup();
-                ChromeOptions chromeOptions = new ChromeOptions();
-                if (headless) {
-                    chromeOptions.addArguments("--headless");
-                }
-                chromeOptions.addArguments("--disable-notifications");
-                chromeOptions.addArguments("--start-maximized");
-                webDriver = new ChromeDriver(chromeOptions);
+                webDriver = DriverBinaryResolver.startSession(Browser.CHROME, () -> ConfigReader.isSharedBrowser()
+                        ? SharedBrowser.openContext(DriverManager::chromeOptions)
+                        : new ChromeDriver(chromeOptions()));
+                RequestBlocker.attach(webDriver);
                 break;
         }
 
+        webDriver.manage().timeouts().scriptTimeout(ConfigReader.getTimeoutDuration().plusSeconds(5));
         return webDriver;
     }
 
-    public static void quitDriver() {
-        if (driver.get() != null) {
-            driver.get().quit();
+    private static ChromeOptions chromeOptions() {
+        ChromeLaunchProfile profile = ConfigReader.getChromeProfile();
+        ChromeOptions chromeOptions = profile.createOptions(ConfigReader.isHeadless());
+        chromeOptions.setPageLoadStrategy(ConfigReader.getPageLoadStrategy());
+
+        String template = ConfigReader.getChromeUserDataTemplate();
+        if (!template.isEmpty()) {
+            String seedUrl = ConfigReader.isOfflineMode() ? null : ConfigReader.getBaseUrl();
+            Path userDataDir = ChromeUserDataTemplate.copy(Paths.get(template),
+                    () -> profile.createOptions(ConfigReader.isHeadless()), seedUrl);
+            chromeOptions.addArguments("--user-data-dir=" + userDataDir);
+        }
+
+        RequestBlocker.configure(chromeOptions);
+        return chromeOptions;
+    }
+
+    public static void releaseDriver() {
+        WebDriver webDriver = driver.get();
+        if (webDriver == null) {
+            return;
+        }
+
+        if (pool != null) {
+            pool.release(webDriver);
             driver.remove();
+        } else {
+            quitDriver();
+        }
+    }
+
+    public static void quitDriver() {
+        WebDriver webDriver = driver.get();
+        if (webDriver == null) {
+            return;
+        }
+
+        if (pool != null) {
+            pool.invalidate(webDriver);
+        } else {
+            webDriver.quit();
+        }
+        driver.remove();
+    }
+
+    public static void shutdownPool() {
+        synchronized (DriverManager.class) {
+            if (pool != null) {
+                pool.shutdown();
+                pool = null;
+            }
+            SharedBrowser.shutdown();
+            ChromeUserDataTemplate.cleanUp();
         }
     }
 }
@@ -0,0 +1,230 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class DriverPool {
+    private static final Logger logger = LogManager.getLogger(DriverPool.class);
+
+    private final Supplier<WebDriver> factory;
+    private final int minSize;
+    private final int maxSize;
+    private final long idleTimeoutMillis;
+    private final long leaseTimeoutMillis;
+
+    private final LinkedBlockingDeque<IdleDriver> idleDrivers = new LinkedBlockingDeque<>();
+    private final Semaphore leasePermits;
+    private final AtomicInteger liveCount = new AtomicInteger();
+    private final AtomicInteger createdCount = new AtomicInteger();
+    private final ScheduledExecutorService evictor;
+    private volatile boolean closed;
+
+    public DriverPool(Supplier<WebDriver> factory, int minSize, int maxSize,
+                      long idleTimeoutMillis, long leaseTimeoutMillis) {
+        if (minSize < 0 || maxSize < 1 || minSize > maxSize) {
+            throw new IllegalArgumentException("Invalid driver pool size: min=" + minSize + ", max=" + maxSize);
+        }
+        this.factory = factory;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.leaseTimeoutMillis = leaseTimeoutMillis;
+        this.leasePermits = new Semaphore(maxSize, true);
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "driver-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1000, idleTimeoutMillis / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdleDrivers, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    public void warmUp() {
+        while (liveCount.get() < minSize && !closed) {
+            WebDriver webDriver = createDriver();
+            if (webDriver == null) {
+                break;
+            }
+            idleDrivers.offerLast(new IdleDriver(webDriver, System.currentTimeMillis()));
+        }
+        logger.info("Driver pool warmed up with {} idle session(s)", idleDrivers.size());
+    }
+
+    public WebDriver lease() {
+        if (closed) {
+            throw new IllegalStateException("Driver pool is closed");
+        }
+
+        try {
+            if (!leasePermits.tryAcquire(leaseTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Timed out after " + leaseTimeoutMillis
+                        + " ms waiting for a driver from the pool (max size: " + maxSize + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a driver from the pool", e);
+        }
+
+        try {
+            IdleDriver idle;
+            while ((idle = idleDrivers.pollFirst()) != null) {
+                if (isHealthy(idle.driver)) {
+                    logger.info("Leased pooled driver (live: {}, idle: {})", liveCount.get(), idleDrivers.size());
+                    return idle.driver;
+                }
+                logger.warn("Discarding unhealthy pooled driver");
+                destroy(idle.driver);
+            }
+
+            WebDriver webDriver = createDriver();
+            if (webDriver == null) {
+                throw new IllegalStateException("Could not create a new driver for the pool");
+            }
+            logger.info("Leased new driver (live: {}, created so far: {})", liveCount.get(), createdCount.get());
+            return webDriver;
+        } catch (RuntimeException e) {
+            leasePermits.release();
+            throw e;
+        }
+    }
+
+    public void release(WebDriver webDriver) {
+        if (webDriver == null) {
+            return;
+        }
+
+        try {
+            if (closed || liveCount.get() > maxSize || !resetState(webDriver)) {
+                destroy(webDriver);
+            } else {
+                idleDrivers.offerFirst(new IdleDriver(webDriver, System.currentTimeMillis()));
+            }
+        } finally {
+            leasePermits.release();
+        }
+    }
+
+    public void invalidate(WebDriver webDriver) {
+        if (webDriver == null) {
+            return;
+        }
+
+        try {
+            destroy(webDriver);
+        } finally {
+            leasePermits.release();
+        }
+    }
+
+    public void shutdown() {
+        closed = true;
+        evictor.shutdownNow();
+
+        IdleDriver idle;
+        while ((idle = idleDrivers.pollFirst()) != null) {
+            destroy(idle.driver);
+        }
+        logger.info("Driver pool shut down. Sessions created during run: {}", createdCount.get());
+    }
+
+    private WebDriver createDriver() {
+        try {
+            WebDriver webDriver = factory.get();
+            liveCount.incrementAndGet();
+            createdCount.incrementAndGet();
+            return webDriver;
+        } catch (Exception e) {
+            logger.error("Failed to create driver for the pool: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void destroy(WebDriver webDriver) {
+        try {
+            webDriver.quit();
+        } catch (Exception e) {
+            logger.warn("Error quitting pooled driver: {}", e.getMessage());
+        } finally {
+            liveCount.decrementAndGet();
+        }
+    }
+
+    private boolean isHealthy(WebDriver webDriver) {
+        try {
+            return !webDriver.getWindowHandles().isEmpty();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean resetState(WebDriver webDriver) {
+        try {
+            Set<String> handles = SharedBrowser.windowHandles(webDriver);
+            List<String> handleList = new ArrayList<>(handles);
+            String keepHandle = handleList.get(0);
+
+            for (String handle : handleList) {
+                if (!handle.equals(keepHandle)) {
+                    webDriver.switchTo().window(handle);
+                    webDriver.close();
+                }
+            }
+            webDriver.switchTo().window(keepHandle);
+
+            webDriver.manage().deleteAllCookies();
+            try {
+                ((JavascriptExecutor) webDriver).executeScript(
+                        "try { window.localStorage.clear(); } catch (e) {}" +
+                        "try { window.sessionStorage.clear(); } catch (e) {}");
+            } catch (Exception e) {
+                logger.warn("Could not clear web storage: {}", e.getMessage());
+            }
+            webDriver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            logger.warn("Failed to reset pooled driver state, discarding it: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void evictIdleDrivers() {
+        long now = System.currentTimeMillis();
+        Iterator<IdleDriver> iterator = idleDrivers.descendingIterator();
+
+        while (iterator.hasNext()) {
+            IdleDriver idle = iterator.next();
+            if (liveCount.get() <= minSize) {
+                break;
+            }
+            if (now - idle.returnedAt >= idleTimeoutMillis && idleDrivers.remove(idle)) {
+                logger.info("Evicting driver idle for {} ms", now - idle.returnedAt);
+                destroy(idle.driver);
+            }
+        }
+    }
+
+    private static class IdleDriver {
+        private final WebDriver driver;
+        private final long returnedAt;
+
+        private IdleDriver(WebDriver driver, long returnedAt) {
+            this.driver = driver;
+            this.returnedAt = returnedAt;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+public class OfflineSiteServer {
+    private static final Logger logger = LogManager.getLogger(OfflineSiteServer.class);
+
+    private static final String RESOURCE_ROOT = "offline";
+    private static final String[][] AIRLINES = {
+            {"TK", "Türk Hava Yolları"},
+            {"PC", "Pegasus"},
+            {"AJ", "AJet"},
+            {"XQ", "SunExpress"}
+    };
+    private static final String[] AIRPORTS = {"IST", "SAW"};
+    private static final int DEFAULT_FLIGHT_COUNT = 60;
+    private static final int MAX_FLIGHT_COUNT = 500;
+
+    private static OfflineSiteServer instance;
+
+    private final HttpServer server;
+
+    private OfflineSiteServer(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/api/flights", this::handleFlights);
+        server.createContext("/calendar.js", this::handleCalendar);
+        server.createContext("/", this::handleStatic);
+        server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "offline-site");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.start();
+    }
+
+    public static synchronized OfflineSiteServer start() {
+        if (instance == null) {
+            try {
+                instance = new OfflineSiteServer(ConfigReader.getOfflinePort());
+                logger.info("Offline site started at {}", instance.getBaseUrl());
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not start offline site server", e);
+            }
+        }
+        return instance;
+    }
+
+    public static synchronized void stop() {
+        if (instance != null) {
+            instance.server.stop(0);
+            instance = null;
+            logger.info("Offline site stopped");
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    private void handleStatic(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if (path.equals("/") || path.isEmpty()) {
+            path = "/index.html";
+        }
+        if (path.contains("..")) {
+            send(exchange, 400, "text/plain", "Bad request".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+
+        try (InputStream resource = OfflineSiteServer.class.getClassLoader()
+                .getResourceAsStream(RESOURCE_ROOT + path)) {
+            if (resource == null) {
+                send(exchange, 404, "text/plain", "Not found".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            send(exchange, 200, contentType(path), resource.readAllBytes());
+        }
+    }
+
+    private void handleCalendar(HttpExchange exchange) throws IOException {
+        ConfigSnapshot config = ConfigReader.snapshot();
+        LocalDate start = calendarStart(LocalDate.now(),
+                config.getDepartureDate(), config.getReturnDate(), config.getOneWayDepartureDate());
+        String script = "window.OFFLINE_CALENDAR_START = '" + start + "';\n";
+        send(exchange, 200, "application/javascript; charset=UTF-8", script.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void handleFlights(HttpExchange exchange) throws IOException {
+        Map<String, String> query = parseQuery(exchange.getRequestURI());
+        Integer count = parseCount(query.get("count"));
+        if (count == null) {
+            send(exchange, 400, "text/plain", ("count must be a number from 0 to " + MAX_FLIGHT_COUNT)
+                    .getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+
+        send(exchange, 200, "application/json; charset=UTF-8", flightsJson(query, count).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // The offline calendar starts at the earliest configured travel date when that has already
+    // passed, so the fixed dates in config.properties stay selectable; otherwise it starts today.
+    static LocalDate calendarStart(LocalDate today, ConfigSnapshot.TravelDate... travelDates) {
+        return Stream.of(travelDates)
+                .filter(Objects::nonNull)
+                .map(ConfigSnapshot.TravelDate::date)
+                .filter(date -> date.isBefore(today))
+                .min(LocalDate::compareTo)
+                .orElse(today);
+    }
+
+    // Missing means the default; anything that is not a number in 0..MAX_FLIGHT_COUNT is null.
+    static Integer parseCount(String value) {
+        if (value == null || value.isEmpty()) {
+            return DEFAULT_FLIGHT_COUNT;
+        }
+        try {
+            int count = Integer.parseInt(value.trim());
+            return count < 0 || count > MAX_FLIGHT_COUNT ? null : count;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static String flightsJson(Map<String, String> query, int count) {
+        String route = query.getOrDefault("origin", "") + "-" + query.getOrDefault("destination", "")
+                + "-" + query.getOrDefault("departure", "");
+
+        Random random = new Random(route.hashCode());
+        StringBuilder json = new StringBuilder(count * 120).append('[');
+        for (int i = 0; i < count; i++) {
+            String[] airline = AIRLINES[random.nextInt(AIRLINES.length)];
+            int departure = 5 * random.nextInt(288);
+            int duration = 60 + 5 * random.nextInt(24);
+            int stops = random.nextInt(10) < 7 ? 0 : 1;
+            int price = 900 + random.nextInt(4000) + stops * 150;
+
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(i)
+                    .append(",\"airlineCode\":\"").append(airline[0])
+                    .append("\",\"airlineName\":\"").append(airline[1])
+                    .append("\",\"airport\":\"").append(AIRPORTS[random.nextInt(AIRPORTS.length)])
+                    .append("\",\"departure\":").append(departure)
+                    .append(",\"arrival\":").append((departure + duration) % 1440)
+                    .append(",\"stops\":").append(stops)
+                    .append(",\"price\":").append(price).append(".00}");
+        }
+        json.append(']');
+        return json.toString();
+    }
+
+    static Map<String, String> parseQuery(URI uri) {
+        Map<String, String> query = new HashMap<>();
+        if (uri.getRawQuery() == null) {
+            return query;
+        }
+        for (String pair : uri.getRawQuery().split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                query.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+
+    private static String contentType(String path) {
+        if (path.endsWith(".html")) {
+            return "text/html; charset=UTF-8";
+        } else if (path.endsWith(".js")) {
+            return "application/javascript; charset=UTF-8";
+        } else if (path.endsWith(".css")) {
+            return "text/css; charset=UTF-8";
+        }
+        return "application/octet-stream";
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Snapshots of a reached page state (URL, cookies, localStorage) that later tests can jump back
+// to instead of repeating the steps that led there. A checkpoint is dropped once it is older than
+// checkpointTtl or the first time restoring it doesn't bring back the expected page.
+public class PageCheckpoints {
+    private static final Logger logger = LogManager.getLogger(PageCheckpoints.class);
+
+    private static final String READ_LOCAL_STORAGE_SCRIPT =
+            "var data = {};" +
+            "for (var i = 0; i < window.localStorage.length; i++) {" +
+            "  var key = window.localStorage.key(i);" +
+            "  data[key] = window.localStorage.getItem(key);" +
+            "}" +
+            "return data;";
+    private static final String WRITE_LOCAL_STORAGE_SCRIPT =
+            "var data = arguments[0];" +
+            "Object.keys(data).forEach(function (key) { window.localStorage.setItem(key, data[key]); });";
+
+    private static final Map<String, Checkpoint> checkpoints = new ConcurrentHashMap<>();
+
+    public record Checkpoint(String url, Set<Cookie> cookies, Map<String, String> localStorage, Instant createdAt) {
+
+        boolean isExpired(Duration ttl) {
+            return createdAt.plus(ttl).isBefore(Instant.now());
+        }
+    }
+
+    public static void save(String key, WebDriver driver) {
+        if (!ConfigReader.isCheckpointsEnabled()) {
+            return;
+        }
+
+        try {
+            Map<String, String> localStorage = new HashMap<>();
+            Object storage = ((JavascriptExecutor) driver).executeScript(READ_LOCAL_STORAGE_SCRIPT);
+            if (storage instanceof Map) {
+                ((Map<?, ?>) storage).forEach((name, value) -> localStorage.put(String.valueOf(name), String.valueOf(value)));
+            }
+
+            Checkpoint checkpoint = new Checkpoint(driver.getCurrentUrl(), driver.manage().getCookies(),
+                    localStorage, Instant.now());
+            checkpoints.put(key, checkpoint);
+            logger.info("Saved checkpoint '{}' at {} ({} cookies, {} localStorage entries)",
+                    key, checkpoint.url(), checkpoint.cookies().size(), localStorage.size());
+        } catch (WebDriverException e) {
+            logger.warn("Could not save checkpoint '{}': {}", key, e.getMessage());
+        }
+    }
+
+    // Returns true when the driver is on the checkpointed page and readyLocator is visible.
+    // On false the driver is back on the page it started from, so the caller can take the long way.
+    public static boolean restore(String key, WebDriver driver, By readyLocator) {
+        if (!ConfigReader.isCheckpointsEnabled()) {
+            return false;
+        }
+
+        Checkpoint checkpoint = checkpoints.get(key);
+        if (checkpoint == null) {
+            logger.info("No checkpoint '{}' yet", key);
+            return false;
+        }
+        if (checkpoint.isExpired(ConfigReader.getCheckpointTtl())) {
+            logger.info("Checkpoint '{}' is older than {} s, discarding it", key, ConfigReader.getCheckpointTtl().toSeconds());
+            checkpoints.remove(key, checkpoint);
+            return false;
+        }
+
+        String startUrl = driver.getCurrentUrl();
+        long start = System.currentTimeMillis();
+        try {
+            URI target = URI.create(checkpoint.url());
+            String origin = target.getScheme() + "://" + target.getAuthority();
+            // Cookies and localStorage can only be written for the origin the browser is on.
+            if (!startUrl.startsWith(origin)) {
+                driver.get(origin + "/");
+            }
+
+            Date now = new Date();
+            for (Cookie cookie : checkpoint.cookies()) {
+                if (cookie.getExpiry() != null && cookie.getExpiry().before(now)) {
+                    continue;
+                }
+                try {
+                    driver.manage().addCookie(cookie);
+                } catch (WebDriverException e) {
+                    logger.debug("Skipped cookie {} while restoring '{}': {}", cookie.getName(), key, e.getMessage());
+                }
+            }
+            if (!checkpoint.localStorage().isEmpty()) {
+                ((JavascriptExecutor) driver).executeScript(WRITE_LOCAL_STORAGE_SCRIPT, checkpoint.localStorage());
+            }
+
+            driver.get(checkpoint.url());
+            new WaitHelper(driver).waitForElementVisible(readyLocator);
+            logger.info("Restored checkpoint '{}' in {} ms", key, System.currentTimeMillis() - start);
+            return true;
+        } catch (WebDriverException | IllegalArgumentException e) {
+            logger.warn("Checkpoint '{}' is stale, discarding it: {}", key, e.getMessage());
+            checkpoints.remove(key, checkpoint);
+            try {
+                driver.get(startUrl);
+            } catch (WebDriverException navigationError) {
+                logger.warn("Could not return to {} after failed restore: {}", startUrl, navigationError.getMessage());
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package utils;
+
+// Values of TestNG's suite "parallel" attribute; "false" is accepted as NONE like in testng.xml.
+public enum ParallelMode {
+    NONE,
+    METHODS,
+    CLASSES,
+    TESTS,
+    INSTANCES;
+
+    public static ParallelMode from(String name) {
+        if (name == null || name.trim().isEmpty() || "false".equalsIgnoreCase(name.trim())) {
+            return NONE;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase(java.util.Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Unsupported parallel mode in config: " + name);
+        }
+    }
+
+    public String key() {
+        return name().toLowerCase(java.util.Locale.ROOT);
+    }
+}
@@ -0,0 +1,179 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class RequestBlocker {
+    private static final Logger logger = LogManager.getLogger(RequestBlocker.class);
+
+    private static final AtomicLong blockedRequests = new AtomicLong();
+    private static final AtomicLong transferredBytes = new AtomicLong();
+    private static final Map<String, LongAdder> blockedByHost = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, Set<String>> attachedWindows = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final Event<Map<String, Object>> REQUEST_WILL_BE_SENT = event("Network.requestWillBeSent");
+    private static final Event<Map<String, Object>> LOADING_FAILED = event("Network.loadingFailed");
+    private static final Event<Map<String, Object>> LOADING_FINISHED = event("Network.loadingFinished");
+
+    public static void configure(ChromeOptions options) {
+        if (!ConfigReader.isRequestBlockingEnabled()) {
+            return;
+        }
+
+        String rules = buildHostResolverRules();
+        if (!rules.isEmpty()) {
+            options.addArguments("--host-resolver-rules=" + rules);
+            logger.info("Request blocking host rules: {}", rules);
+        }
+    }
+
+    // Host rules apply to every tab from the first request; a DevTools session only covers one
+    // window, so call this again after switching to a newly opened tab. Earlier sessions stay
+    // attached and the listeners, added once per driver, receive the events of all of them, so
+    // each window is attached only once to keep its requests from being counted twice.
+    public static void attach(WebDriver driver) {
+        if (!ConfigReader.isRequestBlockingEnabled() || !(driver instanceof HasDevTools)) {
+            return;
+        }
+
+        try {
+            String windowHandle = driver.getWindowHandle();
+            Set<String> windows = attachedWindows.computeIfAbsent(driver, key -> ConcurrentHashMap.newKeySet());
+            if (windows.contains(windowHandle)) {
+                return;
+            }
+
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSession(windowHandle);
+            devTools.send(new Command<Void>("Network.enable", Map.of()));
+
+            List<String> urlPatterns = ConfigReader.getBlockedUrlPatterns();
+            if (!urlPatterns.isEmpty()) {
+                devTools.send(new Command<Void>("Network.setBlockedURLs", Map.of("urls", urlPatterns)));
+            }
+
+            if (windows.isEmpty()) {
+                addListeners(devTools);
+            }
+            windows.add(windowHandle);
+        } catch (Exception e) {
+            logger.warn("Could not attach request blocker: {}", e.getMessage());
+        }
+    }
+
+    public static long getBlockedRequests() {
+        return blockedRequests.get();
+    }
+
+    public static String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append("Blocked requests: ").append(blockedRequests.get()).append('\n');
+        summary.append("Bytes transferred by allowed requests: ").append(transferredBytes.get()).append('\n');
+        blockedByHost.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                .forEach(entry -> summary.append("  ").append(entry.getKey())
+                        .append(": ").append(entry.getValue().sum()).append('\n'));
+        return summary.toString();
+    }
+
+    public static void logSummary() {
+        if (ConfigReader.isRequestBlockingEnabled()) {
+            logger.info("Request blocking summary\n{}", getSummary());
+        }
+    }
+
+    private static void addListeners(DevTools devTools) {
+        Map<String, String> pendingUrls = new ConcurrentHashMap<>();
+
+        devTools.addListener(REQUEST_WILL_BE_SENT, params -> {
+            Object request = params.get("request");
+            if (request instanceof Map) {
+                pendingUrls.put(String.valueOf(params.get("requestId")), String.valueOf(((Map<?, ?>) request).get("url")));
+            }
+        });
+
+        devTools.addListener(LOADING_FINISHED, params -> {
+            pendingUrls.remove(String.valueOf(params.get("requestId")));
+            Object length = params.get("encodedDataLength");
+            if (length instanceof Number) {
+                transferredBytes.addAndGet(((Number) length).longValue());
+            }
+        });
+
+        devTools.addListener(LOADING_FAILED, params -> {
+            String url = pendingUrls.remove(String.valueOf(params.get("requestId")));
+            String errorText = String.valueOf(params.get("errorText"));
+            boolean blocked = params.get("blockedReason") != null
+                    || (errorText.contains("ERR_NAME_NOT_RESOLVED") && url != null && isBlockedHost(hostOf(url)));
+            if (blocked) {
+                blockedRequests.incrementAndGet();
+                blockedByHost.computeIfAbsent(url == null ? "unknown" : hostOf(url), key -> new LongAdder()).increment();
+            }
+        });
+    }
+
+    private static String buildHostResolverRules() {
+        List<String> rules = new ArrayList<>();
+        List<String> allowedHosts = ConfigReader.getAllowedHosts();
+
+        if (!allowedHosts.isEmpty()) {
+            rules.add("MAP * ~NOTFOUND");
+            rules.add("EXCLUDE localhost");
+            rules.add("EXCLUDE 127.0.0.1");
+            for (String host : allowedHosts) {
+                rules.add("EXCLUDE " + host);
+            }
+        } else {
+            for (String host : ConfigReader.getBlockedHosts()) {
+                rules.add("MAP " + host + " ~NOTFOUND");
+            }
+        }
+        return String.join(", ", rules);
+    }
+
+    private static boolean isBlockedHost(String host) {
+        List<String> allowedHosts = ConfigReader.getAllowedHosts();
+        if (!allowedHosts.isEmpty()) {
+            return !host.equals("localhost") && allowedHosts.stream().noneMatch(pattern -> matches(pattern, host));
+        }
+        return ConfigReader.getBlockedHosts().stream().anyMatch(pattern -> matches(pattern, host));
+    }
+
+    private static boolean matches(String pattern, String host) {
+        if (pattern.startsWith("*.")) {
+            return host.endsWith(pattern.substring(1));
+        }
+        return host.equals(pattern);
+    }
+
+    private static String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host == null ? "unknown" : host;
+        } catch (IllegalArgumentException e) {
+            return "unknown";
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> (Map<String, Object>) input.read(Map.class));
+    }
+}
@@ -1,6 +1,8 @@
 package utils;
 
 import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
@@ -9,14 +11,38 @@ import java.io.File;
 import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 public class ScreenshotUtil {
+    private static final Logger logger = LogManager.getLogger(ScreenshotUtil.class);
+
+    // Bounded so a burst of failures can't queue unlimited screenshots in memory; when the
+    // queue is full the failing test thread does the write itself.
+    private static final ThreadPoolExecutor writer = new ThreadPoolExecutor(
+            2, 2, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(32),
+            runnable -> {
+                Thread thread = new Thread(runnable, "screenshot-writer");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+
+    private static final Set<CompletableFuture<String>> pendingWrites = ConcurrentHashMap.newKeySet();
+
+    static {
+        writer.allowCoreThreadTimeOut(true);
+    }
 
     public static String captureScreenshot(WebDriver driver, String screenshotName) {
-        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-        String fileName = screenshotName + "_" + timestamp + ".png";
-        String directory = ConfigReader.getScreenshotPath();
-        String filePath = directory + fileName;
+        String filePath = buildFilePath(screenshotName);
 
         try {
             File screenshotFile = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
@@ -24,13 +50,58 @@ public class ScreenshotUtil {
             FileUtils.copyFile(screenshotFile, destinationFile);
             return filePath;
         } catch (IOException e) {
-            e.printStackTrace();
+            logger.error("Could not save screenshot {}", filePath, e);
             return null;
         }
     }
 
+    // The only part of a screenshot that needs the browser; call it on the test thread.
     public static byte[] captureScreenshotAsBytes(WebDriver driver) {
         return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
     }
-}
 
+    // Writes a captured screenshot on the background writer. The same bytes are then passed to
+    // alsoWrite, e.g. to fill a report attachment, so nothing is captured twice. A failure in
+    // alsoWrite completes the future exceptionally; the file is written either way.
+    public static CompletableFuture<String> saveScreenshotAsync(byte[] png, String screenshotName,
+                                                                Consumer<byte[]> alsoWrite) {
+        String filePath = buildFilePath(screenshotName);
+
+        CompletableFuture<String> write = CompletableFuture.supplyAsync(() -> {
+            String savedPath;
+            try {
+                FileUtils.writeByteArrayToFile(new File(filePath), png);
+                savedPath = filePath;
+            } catch (IOException e) {
+                logger.error("Could not write screenshot {}", filePath, e);
+                savedPath = null;
+            }
+            if (alsoWrite != null) {
+                alsoWrite.accept(png);
+            }
+            return savedPath;
+        }, writer);
+        pendingWrites.add(write);
+        write.whenComplete((path, error) -> pendingWrites.remove(write));
+        return write;
+    }
+
+    public static void awaitPendingWrites(long timeoutSeconds) {
+        try {
+            CompletableFuture.allOf(pendingWrites.toArray(new CompletableFuture<?>[0]))
+                    .get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("Screenshot writes still pending after {} s: {}", timeoutSeconds, pendingWrites.size());
+        } catch (ExecutionException e) {
+            logger.error("Screenshot write failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String buildFilePath(String screenshotName) {
+        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+        String fileName = screenshotName + "_" + timestamp + "_" + Thread.currentThread().getId() + ".png";
+        return ConfigReader.getScreenshotPath() + fileName;
+    }
+}
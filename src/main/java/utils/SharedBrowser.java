@@ -0,0 +1,109 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.ConverterFunctions;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+// One Chrome process shared by all test threads. Each session is a separate chromedriver attached
+// to that browser over its debugger address, working in its own browser context (separate cookies,
+// storage and cache, like an incognito profile). The context is created with disposeOnDetach, so
+// quitting the session closes its tabs and drops the context without touching the others.
+public class SharedBrowser {
+    private static final Logger logger = LogManager.getLogger(SharedBrowser.class);
+
+    private static final Map<WebDriver, Context> contexts = Collections.synchronizedMap(new WeakHashMap<>());
+    private static ChromeDriver host;
+    private static String debuggerAddress;
+
+    public static WebDriver openContext(Supplier<ChromeOptions> launchOptions) {
+        ChromeOptions attachOptions = new ChromeOptions();
+        attachOptions.setExperimentalOption("debuggerAddress", debuggerAddress(launchOptions));
+        ChromeDriver session = new ChromeDriver(attachOptions);
+
+        try {
+            DevTools devTools = session.getDevTools();
+            String contextId = devTools.send(new Command<>("Target.createBrowserContext",
+                    Map.of("disposeOnDetach", true), ConverterFunctions.map("browserContextId", String.class)));
+            String targetId = devTools.send(new Command<>("Target.createTarget",
+                    Map.of("url", "about:blank", "browserContextId", contextId, "width", 1920, "height", 1080),
+                    ConverterFunctions.map("targetId", String.class)));
+
+            session.switchTo().window(targetId);
+            contexts.put(session, new Context(contextId, targetId));
+            logger.info("Opened browser context {} in shared browser ({} open)", contextId, contexts.size());
+            return session;
+        } catch (RuntimeException e) {
+            session.quit();
+            throw e;
+        }
+    }
+
+    // Window handles of the session's own browser context, its first tab first. Other drivers
+    // get their plain getWindowHandles(), since every handle in their browser is theirs.
+    public static Set<String> windowHandles(WebDriver driver) {
+        Context context = contexts.get(driver);
+        if (context == null || !(driver instanceof HasCdp)) {
+            return driver.getWindowHandles();
+        }
+
+        Set<String> handles = new LinkedHashSet<>();
+        handles.add(context.firstTarget());
+        Object targets = ((HasCdp) driver).executeCdpCommand("Target.getTargets", Map.of()).get("targetInfos");
+        for (Object target : (List<?>) targets) {
+            Map<?, ?> info = (Map<?, ?>) target;
+            if ("page".equals(info.get("type")) && context.id().equals(info.get("browserContextId"))) {
+                handles.add(String.valueOf(info.get("targetId")));
+            }
+        }
+        handles.retainAll(driver.getWindowHandles());
+        return handles;
+    }
+
+    public static synchronized void shutdown() {
+        if (host == null) {
+            return;
+        }
+        try {
+            host.quit();
+        } catch (Exception e) {
+            logger.warn("Error quitting shared browser: {}", e.getMessage());
+        }
+        host = null;
+        debuggerAddress = null;
+        logger.info("Shared browser shut down");
+    }
+
+    private static synchronized String debuggerAddress(Supplier<ChromeOptions> launchOptions) {
+        if (host == null) {
+            host = new ChromeDriver(launchOptions.get());
+            Object chromeOptions = ((HasCapabilities) host).getCapabilities().getCapability("goog:chromeOptions");
+            Object address = chromeOptions instanceof Map ? ((Map<?, ?>) chromeOptions).get("debuggerAddress") : null;
+            if (address == null) {
+                host.quit();
+                host = null;
+                throw new IllegalStateException("Chrome did not report a debugger address; cannot share the browser");
+            }
+            debuggerAddress = address.toString();
+            logger.info("Shared browser started, debugger address {}", debuggerAddress);
+        }
+        return debuggerAddress;
+    }
+
+    private record Context(String id, String firstTarget) {
+    }
+}
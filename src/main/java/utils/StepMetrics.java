@@ -0,0 +1,198 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class StepMetrics {
+    private static final Logger logger = LogManager.getLogger(StepMetrics.class);
+
+    private static final boolean enabled = ConfigReader.isStepMetricsEnabled();
+    private static final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    public static long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public static void record(String action, Object target, long startNanos) {
+        if (!enabled) {
+            return;
+        }
+        long micros = (System.nanoTime() - startNanos) / 1000L;
+        String targetName = String.valueOf(target);
+        histograms.computeIfAbsent(action + " " + targetName, key -> new Histogram(action, targetName)).record(micros);
+    }
+
+    public static List<StepTiming> getTimings() {
+        List<StepTiming> timings = new ArrayList<>();
+        for (Histogram histogram : histograms.values()) {
+            timings.add(histogram.toTiming());
+        }
+        timings.sort(Comparator.comparingDouble(StepTiming::totalMillis).reversed());
+        return timings;
+    }
+
+    public static void reset() {
+        histograms.clear();
+    }
+
+    public static String toJson() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (StepTiming timing : getTimings()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("action", timing.action());
+            row.put("target", timing.target());
+            row.put("count", timing.count());
+            row.put("p50Ms", timing.p50Millis());
+            row.put("p95Ms", timing.p95Millis());
+            row.put("p99Ms", timing.p99Millis());
+            row.put("maxMs", timing.maxMillis());
+            row.put("totalMs", timing.totalMillis());
+            rows.add(row);
+        }
+        return new Json().toJson(rows);
+    }
+
+    public static String toCsv() {
+        StringBuilder csv = new StringBuilder("action,target,count,p50_ms,p95_ms,p99_ms,max_ms,total_ms\n");
+        for (StepTiming timing : getTimings()) {
+            csv.append(timing.action()).append(',')
+                    .append('"').append(timing.target().replace("\"", "\"\"")).append('"').append(',')
+                    .append(timing.count()).append(',')
+                    .append(format(timing.p50Millis())).append(',')
+                    .append(format(timing.p95Millis())).append(',')
+                    .append(format(timing.p99Millis())).append(',')
+                    .append(format(timing.maxMillis())).append(',')
+                    .append(format(timing.totalMillis())).append('\n');
+        }
+        return csv.toString();
+    }
+
+    public static Path writeReport() {
+        if (!enabled || histograms.isEmpty()) {
+            return null;
+        }
+
+        Path directory = Paths.get(ConfigReader.getStepMetricsPath());
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve("step-metrics.json"), toJson(), StandardCharsets.UTF_8);
+            Files.writeString(directory.resolve("step-metrics.csv"), toCsv(), StandardCharsets.UTF_8);
+            logger.info("Step timing report written to {}", directory.toAbsolutePath());
+            return directory;
+        } catch (IOException e) {
+            logger.error("Could not write step timing report: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public static void logSummary(int limit) {
+        if (!enabled || histograms.isEmpty()) {
+            return;
+        }
+
+        List<StepTiming> timings = getTimings();
+        StringBuilder summary = new StringBuilder("Slowest steps by total time (p50 / p95 / p99 / max ms)");
+        for (StepTiming timing : timings.subList(0, Math.min(limit, timings.size()))) {
+            summary.append("\n  ").append(timing.action()).append(' ').append(timing.target())
+                    .append(" x").append(timing.count()).append(": ")
+                    .append(format(timing.p50Millis())).append(" / ")
+                    .append(format(timing.p95Millis())).append(" / ")
+                    .append(format(timing.p99Millis())).append(" / ")
+                    .append(format(timing.maxMillis()));
+        }
+        logger.info(summary.toString());
+    }
+
+    private static String format(double millis) {
+        return String.format(Locale.ROOT, "%.1f", millis);
+    }
+
+    public record StepTiming(String action, String target, long count, double p50Millis, double p95Millis,
+                             double p99Millis, double maxMillis, double totalMillis) {
+    }
+
+    // Log-linear buckets over microseconds: exact below 8 us, then 8 sub-buckets per power of
+    // two, so any recorded value is reported within ~6% while recording stays lock-free.
+    static final class Histogram {
+        private static final int SUB_BUCKET_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+        private final String action;
+        private final String target;
+        private final AtomicLongArray counts = new AtomicLongArray((64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS);
+        private final LongAdder total = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+        Histogram(String action, String target) {
+            this.action = action;
+            this.target = target;
+        }
+
+        void record(long micros) {
+            long value = Math.max(0L, micros);
+            counts.incrementAndGet(indexOf(value));
+            total.increment();
+            sum.add(value);
+            max.accumulate(value);
+        }
+
+        static int indexOf(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int subBucket = (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+            return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+        }
+
+        static long midpointOf(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+            int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+            int shift = exponent - SUB_BUCKET_BITS;
+            long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+            return lower + ((1L << shift) >> 1);
+        }
+
+        long percentile(double quantile, long count) {
+            long rank = Math.max(1L, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                seen += counts.get(i);
+                if (seen >= rank) {
+                    return Math.min(midpointOf(i), max.get());
+                }
+            }
+            return max.get();
+        }
+
+        StepTiming toTiming() {
+            long count = total.sum();
+            return new StepTiming(action, target, count,
+                    percentile(0.50, count) / 1000.0,
+                    percentile(0.95, count) / 1000.0,
+                    percentile(0.99, count) / 1000.0,
+                    max.get() / 1000.0,
+                    sum.sum() / 1000.0);
+        }
+    }
+}
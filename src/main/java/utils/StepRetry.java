@@ -0,0 +1,170 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.StaleElementReferenceException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Retries a single page step when it fails for a transient reason (a re-rendered element or an
+// overlay taking the click), with exponential backoff capped at stepRetryMaxBackoff. Timeouts are
+// real failures and surface straight away. Time spent retrying is charged to a per-test budget
+// (stepRetryBudget); once it is used up, failures surface immediately. Nested steps only retry at
+// the outermost level.
+public class StepRetry {
+    private static final Logger logger = LogManager.getLogger(StepRetry.class);
+
+    private static final List<Class<? extends RuntimeException>> RETRYABLE = List.of(
+            StaleElementReferenceException.class,
+            ElementClickInterceptedException.class);
+
+    private static final int maxAttempts = ConfigReader.getStepRetryAttempts();
+    private static final long initialBackoffMillis = ConfigReader.getStepRetryBackoff().toMillis();
+    private static final long maxBackoffMillis = ConfigReader.getStepRetryMaxBackoff().toMillis();
+    private static final Duration budget = ConfigReader.getStepRetryBudget();
+
+    private static final ThreadLocal<TestRetries> current = ThreadLocal.withInitial(() -> new TestRetries(maxAttempts, budget.toNanos()));
+    private static final ThreadLocal<Boolean> inStep = ThreadLocal.withInitial(() -> false);
+    private static final Map<String, LongAdder> retriesByStep = new ConcurrentHashMap<>();
+    private static final LongAdder recovered = new LongAdder();
+    private static final LongAdder exhausted = new LongAdder();
+
+    public static void run(String step, Runnable action) {
+        run(step, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public static <T> T run(String step, Supplier<T> action) {
+        if (inStep.get()) {
+            return action.get();
+        }
+
+        inStep.set(true);
+        try {
+            return runWithRetries(step, action);
+        } finally {
+            inStep.set(false);
+        }
+    }
+
+    // Starts a fresh budget for the test running on this thread.
+    public static void startTest() {
+        startTest(maxAttempts, budget);
+    }
+
+    static void startTest(int attempts, Duration testBudget) {
+        current.set(new TestRetries(attempts, testBudget.toNanos()));
+    }
+
+    public static TestRetries finishTest() {
+        TestRetries retries = current.get();
+        current.remove();
+        return retries;
+    }
+
+    public static void logSummary() {
+        if (retriesByStep.isEmpty() && exhausted.sum() == 0) {
+            return;
+        }
+        StringBuilder summary = new StringBuilder("Step retries: ")
+                .append(recovered.sum()).append(" steps recovered, ")
+                .append(exhausted.sum()).append(" failed after retrying");
+        retriesByStep.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                .forEach(entry -> summary.append("\n  ").append(entry.getKey()).append(": ").append(entry.getValue().sum()));
+        logger.info(summary.toString());
+    }
+
+    private static <T> T runWithRetries(String step, Supplier<T> action) {
+        TestRetries retries = current.get();
+        long backoff = initialBackoffMillis;
+        int attempt = 1;
+        // Retry time (backoff plus the repeated attempt) is charged, not just the backoff sleeps.
+        long retryStart = -1;
+
+        while (true) {
+            try {
+                T result = action.get();
+                if (retryStart >= 0) {
+                    retries.charge(retryStart);
+                    recovered.increment();
+                    logger.info("{} succeeded on attempt {}", step, attempt);
+                }
+                return result;
+            } catch (RuntimeException e) {
+                if (retryStart >= 0) {
+                    retries.charge(retryStart);
+                }
+                if (!isRetryable(e) || attempt >= retries.maxAttempts || retries.remainingNanos < backoff * 1_000_000L) {
+                    if (isRetryable(e)) {
+                        exhausted.increment();
+                        logger.warn("{} failed after {} attempt(s), {} ms of retry budget left: {}",
+                                step, attempt, Math.max(0, retries.remainingNanos / 1_000_000L), e.getClass().getSimpleName());
+                    }
+                    throw e;
+                }
+
+                logger.warn("{} failed with {} (attempt {}/{}), retrying in {} ms",
+                        step, e.getClass().getSimpleName(), attempt, retries.maxAttempts, backoff);
+                retriesByStep.computeIfAbsent(step + " <- " + e.getClass().getSimpleName(), key -> new LongAdder()).increment();
+                retries.count++;
+
+                retryStart = System.nanoTime();
+                sleep(backoff);
+                backoff = Math.min(backoff * 2, maxBackoffMillis);
+                attempt++;
+            }
+        }
+    }
+
+    private static boolean isRetryable(RuntimeException e) {
+        for (Class<? extends RuntimeException> type : RETRYABLE) {
+            if (type.isInstance(e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off before a step retry", e);
+        }
+    }
+
+    public static final class TestRetries {
+        private final int maxAttempts;
+        private final long budgetNanos;
+        private long remainingNanos;
+        private int count;
+
+        private TestRetries(int maxAttempts, long budgetNanos) {
+            this.maxAttempts = maxAttempts;
+            this.budgetNanos = budgetNanos;
+            this.remainingNanos = budgetNanos;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        public long usedMillis() {
+            return (budgetNanos - remainingNanos) / 1_000_000L;
+        }
+
+        private void charge(long retryStart) {
+            remainingNanos -= System.nanoTime() - retryStart;
+        }
+    }
+}
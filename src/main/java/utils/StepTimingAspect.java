@@ -0,0 +1,22 @@
+package utils;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+// Woven at load time by the aspectjweaver agent configured in surefire (see META-INF/aop-ajc.xml),
+// so every public page-object method shows up in StepMetrics without wrapping each one by hand.
+@Aspect
+public class StepTimingAspect {
+
+    @Around("execution(public * pages..*(..)) && within(base.BasePage+)")
+    public Object timePageMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = StepMetrics.start();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            StepMetrics.record("page", joinPoint.getSignature().getDeclaringType().getSimpleName()
+                    + "." + joinPoint.getSignature().getName(), start);
+        }
+    }
+}
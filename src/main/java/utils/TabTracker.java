@@ -0,0 +1,60 @@
+package utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.FluentWait;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Predicate;
+
+// Finds the tab a click opened by diffing window handles against a snapshot taken just before
+// the click, instead of picking "any other handle", which breaks as soon as more tabs exist.
+public class TabTracker {
+    private static final Logger logger = LogManager.getLogger(TabTracker.class);
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+    private static final Map<WebDriver, Set<String>> snapshots = Collections.synchronizedMap(new WeakHashMap<>());
+
+    // Call right before an action that may open a new tab.
+    public static void mark(WebDriver driver) {
+        snapshots.put(driver, new LinkedHashSet<>(SharedBrowser.windowHandles(driver)));
+    }
+
+    // Returns the handle of the tab opened since mark(), or empty when the action navigated the
+    // current tab instead (sameTabLoaded became true first) or nothing was marked.
+    public static Optional<String> awaitNewTab(WebDriver driver, Duration timeout, Predicate<WebDriver> sameTabLoaded) {
+        Set<String> before = snapshots.remove(driver);
+        if (before == null) {
+            return Optional.empty();
+        }
+
+        long start = StepMetrics.start();
+        try {
+            return new FluentWait<>(driver)
+                    .withTimeout(timeout)
+                    .pollingEvery(POLL_INTERVAL)
+                    .until(webDriver -> {
+                        List<String> opened = new ArrayList<>(SharedBrowser.windowHandles(webDriver));
+                        opened.removeAll(before);
+                        if (!opened.isEmpty()) {
+                            if (opened.size() > 1) {
+                                logger.warn("{} tabs opened since the snapshot, using the newest", opened.size());
+                            }
+                            return Optional.of(opened.get(opened.size() - 1));
+                        }
+                        return sameTabLoaded.test(webDriver) ? Optional.<String>empty() : null;
+                    });
+        } finally {
+            StepMetrics.record("wait.newTab", "window handles", start);
+        }
+    }
+}
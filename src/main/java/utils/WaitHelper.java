@@ -1,37 +1,282 @@
 package utils;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 
 public class WaitHelper {
+    private static final Logger logger = LogManager.getLogger(WaitHelper.class);
+
+    // Visibility follows WebElement.isDisplayed(), which ignores opacity, so both strategies agree.
+    private static final String MUTATION_WAIT_SCRIPT =
+            "var kind = arguments[0], value = arguments[1], condition = arguments[2], timeoutMs = arguments[3];" +
+            "var done = arguments[arguments.length - 1];" +
+            "function find() {" +
+            "  return kind === 'id' ? document.getElementById(value) : document.querySelector(value);" +
+            "}" +
+            "function visible(el) {" +
+            "  if (!el || !el.isConnected) return false;" +
+            "  var style = window.getComputedStyle(el);" +
+            "  if (style.display === 'none' || style.visibility === 'hidden' || style.visibility === 'collapse') return false;" +
+            "  var rect = el.getBoundingClientRect();" +
+            "  return rect.width > 0 && rect.height > 0;" +
+            "}" +
+            "function check() {" +
+            "  var el = find();" +
+            "  if (condition === 'invisible') return visible(el) ? null : true;" +
+            "  if (!visible(el)) return null;" +
+            "  if (condition === 'clickable' && el.disabled) return null;" +
+            "  return el;" +
+            "}" +
+            "var result = check();" +
+            "if (result) { done(result); return; }" +
+            "var finished = false, observer, interval, timer;" +
+            "function finish(value) {" +
+            "  if (finished) return;" +
+            "  finished = true;" +
+            "  observer.disconnect(); clearInterval(interval); clearTimeout(timer);" +
+            "  done(value);" +
+            "}" +
+            "function recheck() { var r = check(); if (r) finish(r); }" +
+            "observer = new MutationObserver(recheck);" +
+            "observer.observe(document.documentElement, {childList: true, subtree: true, attributes: true});" +
+            "interval = setInterval(recheck, 250);" +
+            "timer = setTimeout(function () { finish(null); }, timeoutMs);";
+
+    // Wraps fetch and XMLHttpRequest.send once per document so requests in flight can be counted.
+    // Installed when a page becomes ready; a request started before that is invisible to the settle wait.
+    private static final String NETWORK_TRACKER_SCRIPT =
+            "var tracker = window.__seleniumNetworkTracker;" +
+            "if (!tracker) {" +
+            "  tracker = window.__seleniumNetworkTracker = {nextId: 0, inflight: {}};" +
+            "  var begin = function () { var id = tracker.nextId++; tracker.inflight[id] = Date.now(); return id; };" +
+            "  var end = function (id) { delete tracker.inflight[id]; };" +
+            "  if (window.fetch) {" +
+            "    var originalFetch = window.fetch;" +
+            "    window.fetch = function () {" +
+            "      var id = begin();" +
+            "      return originalFetch.apply(this, arguments).finally(function () { end(id); });" +
+            "    };" +
+            "  }" +
+            "  var originalSend = XMLHttpRequest.prototype.send;" +
+            "  XMLHttpRequest.prototype.send = function () {" +
+            "    var id = begin();" +
+            "    this.addEventListener('loadend', function () { end(id); });" +
+            "    return originalSend.apply(this, arguments);" +
+            "  };" +
+            "}";
+
+    private static final String SETTLE_SCRIPT =
+            "var itemSelector = arguments[0], quietMs = arguments[1], timeoutMs = arguments[2], expectChange = arguments[3];" +
+            "var done = arguments[arguments.length - 1];" +
+            NETWORK_TRACKER_SCRIPT +
+            "function pendingRequests() {" +
+            "  var now = Date.now(), count = 0;" +
+            "  for (var id in tracker.inflight) { if (now - tracker.inflight[id] < 10000) count++; }" +
+            "  return count;" +
+            "}" +
+            "function scope() {" +
+            "  var items = itemSelector ? document.querySelectorAll(itemSelector) : [];" +
+            "  if (items.length === 0) return document.body || document.documentElement;" +
+            "  var node = items[0].parentElement;" +
+            "  if (items.length > 1) { while (node && !node.contains(items[1])) node = node.parentElement; }" +
+            "  return node || document.body;" +
+            "}" +
+            "var start = Date.now(), lastActivity = start, activitySeen = false;" +
+            "var observer = new MutationObserver(function () { lastActivity = Date.now(); activitySeen = true; });" +
+            "observer.observe(scope(), {childList: true, subtree: true, attributes: true, characterData: true});" +
+            "var interval = setInterval(function () {" +
+            "  var now = Date.now();" +
+            "  if (pendingRequests() > 0) { lastActivity = now; activitySeen = true; }" +
+            "  var waitingForChange = expectChange && !activitySeen && now - start < quietMs * 3;" +
+            "  if (!waitingForChange && now - lastActivity >= quietMs) {" +
+            "    observer.disconnect(); clearInterval(interval); done(true);" +
+            "  } else if (now - start >= timeoutMs) {" +
+            "    observer.disconnect(); clearInterval(interval); done(false);" +
+            "  }" +
+            "}, 50);";
+
     private WebDriver driver;
     private WebDriverWait wait;
+    private final Duration timeout;
+    private final boolean mutationWaits;
 
     public WaitHelper(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(ConfigReader.getTimeout()));
+        this.timeout = ConfigReader.getTimeoutDuration();
+        this.wait = new WebDriverWait(driver, timeout);
+        this.mutationWaits = ConfigReader.getWaitStrategy() == WaitStrategy.MUTATION
+                && driver instanceof JavascriptExecutor;
     }
 
     public WebElement waitForElementVisible(By locator) {
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        long start = StepMetrics.start();
+        try {
+            if (mutationWaits) {
+                Object result = waitWithObserver(locator, "visible");
+                if (result instanceof WebElement) {
+                    return (WebElement) result;
+                }
+            }
+            return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        } finally {
+            StepMetrics.record("wait.visible", locator, start);
+        }
     }
 
     public WebElement waitForElementClickable(By locator) {
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        long start = StepMetrics.start();
+        try {
+            if (mutationWaits) {
+                Object result = waitWithObserver(locator, "clickable");
+                if (result instanceof WebElement) {
+                    return (WebElement) result;
+                }
+            }
+            return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        } finally {
+            StepMetrics.record("wait.clickable", locator, start);
+        }
     }
 
     public boolean waitForElementInvisible(By locator) {
-        return wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        long start = StepMetrics.start();
+        try {
+            if (mutationWaits) {
+                Object result = waitWithObserver(locator, "invisible");
+                if (Boolean.TRUE.equals(result)) {
+                    return true;
+                }
+            }
+            return wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        } finally {
+            StepMetrics.record("wait.invisible", locator, start);
+        }
+    }
+
+    public boolean waitForAttributeContains(By locator, String attribute, String value) {
+        long start = StepMetrics.start();
+        try {
+            return wait.until(ExpectedConditions.attributeContains(locator, attribute, value));
+        } finally {
+            StepMetrics.record("wait.attribute", locator + " [" + attribute + "*=" + value + "]", start);
+        }
+    }
+
+    public <T> T waitUntil(ExpectedCondition<T> condition) {
+        long start = StepMetrics.start();
+        try {
+            return wait.until(condition);
+        } finally {
+            // Lambda conditions have no useful toString and a per-instance identity.
+            StepMetrics.record("wait.until", condition.getClass().isSynthetic() ? "custom condition" : condition, start);
+        }
+    }
+
+    public boolean waitForDomToSettle(By items, boolean expectChange) {
+        long start = StepMetrics.start();
+        try {
+            return settle(items, expectChange);
+        } finally {
+            StepMetrics.record("wait.settle", items, start);
+        }
+    }
+
+    private boolean settle(By items, boolean expectChange) {
+        String[] selector = items == null ? null : toSelector(items);
+        String itemSelector = selector != null && "cssSelector".equals(selector[0]) ? selector[1] : null;
+
+        long start = System.currentTimeMillis();
+        try {
+            Object settled = ((JavascriptExecutor) driver).executeAsyncScript(SETTLE_SCRIPT,
+                    itemSelector, ConfigReader.getSettleQuietPeriod(), timeout.toMillis(), expectChange);
+            logger.debug("DOM settled={} after {} ms", settled, System.currentTimeMillis() - start);
+            return Boolean.TRUE.equals(settled);
+        } catch (WebDriverException e) {
+            logger.warn("Settle wait failed, waiting for page load instead: {}", e.getMessage());
+            waitForPageLoad();
+            return false;
+        }
+    }
+
+    // Call once a page is ready and before acting on it, so the settle wait that follows the action
+    // also sees requests the action started before the wait began.
+    public void trackNetworkRequests() {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return;
+        }
+        try {
+            ((JavascriptExecutor) driver).executeScript(NETWORK_TRACKER_SCRIPT);
+        } catch (WebDriverException e) {
+            logger.warn("Could not install the network request tracker: {}", e.getMessage());
+        }
     }
 
+    // Waits for the readiness the page load strategy stands for: "complete" for normal, and
+    // past "loading" (DOM parsed, subresources may still load) for eager and none.
     public void waitForPageLoad() {
-        wait.until(webDriver -> ((org.openqa.selenium.JavascriptExecutor) webDriver)
-                .executeScript("return document.readyState").equals("complete"));
+        boolean complete = ConfigReader.getPageLoadStrategy() == PageLoadStrategy.NORMAL;
+        long start = StepMetrics.start();
+        try {
+            wait.until(webDriver -> {
+                Object state = ((org.openqa.selenium.JavascriptExecutor) webDriver).executeScript("return document.readyState");
+                return complete ? "complete".equals(state) : !"loading".equals(state);
+            });
+        } finally {
+            StepMetrics.record("wait.pageLoad", "document.readyState", start);
+        }
+        trackNetworkRequests();
     }
-}
 
+    // Returns null when the locator can't be expressed in the script or the script was
+    // interrupted (e.g. by a navigation), so the caller falls back to WebDriverWait polling.
+    private Object waitWithObserver(By locator, String condition) {
+        String[] selector = toSelector(locator);
+        if (selector == null) {
+            return null;
+        }
+
+        Object result;
+        try {
+            result = ((JavascriptExecutor) driver).executeAsyncScript(
+                    MUTATION_WAIT_SCRIPT, selector[0], selector[1], condition, timeout.toMillis());
+        } catch (WebDriverException e) {
+            logger.debug("Mutation wait aborted for {}, falling back to polling: {}", locator, e.getMessage());
+            return null;
+        }
+
+        if (result == null) {
+            throw new TimeoutException("Expected condition failed: waiting for " + locator + " to be "
+                    + condition + " (tried for " + timeout.getSeconds() + " second(s) with MutationObserver)");
+        }
+        return result;
+    }
+
+    // Only By.id and By.cssSelector are handed to the scripts; their toString() is "By.id: <value>"
+    // and "By.cssSelector: <value>". Anything else (XPath, chained, custom locators) returns null and
+    // is waited for with WebDriverWait polling.
+    static String[] toSelector(By locator) {
+        String kind;
+        if (locator instanceof By.ById) {
+            kind = "id";
+        } else if (locator instanceof By.ByCssSelector) {
+            kind = "cssSelector";
+        } else {
+            return null;
+        }
+        String description = locator.toString();
+        String prefix = "By." + kind + ": ";
+        return description.startsWith(prefix) ? new String[]{kind, description.substring(prefix.length())} : null;
+    }
+}
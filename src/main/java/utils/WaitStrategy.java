@@ -0,0 +1,19 @@
+package utils;
+
+public enum WaitStrategy {
+    // WebDriverWait polling with ExpectedConditions.
+    POLLING,
+    // A MutationObserver script that blocks in the browser until the condition holds.
+    MUTATION;
+
+    public static WaitStrategy from(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return POLLING;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase(java.util.Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Unsupported waitStrategy in config: " + name);
+        }
+    }
+}
@@ -1,34 +1,66 @@
 package base;
 
+import io.qameta.allure.Allure;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebDriver;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
 import utils.ConfigReader;
 import utils.DriverManager;
+import utils.OfflineSiteServer;
+import utils.RequestBlocker;
+import utils.ScreenshotUtil;
+import utils.StepMetrics;
+import utils.StepRetry;
 
 public class BaseTest {
-    protected WebDriver driver;
-    protected Logger logger;
+    protected final Logger logger = LogManager.getLogger(this.getClass());
 
-    @BeforeMethod
+    @BeforeMethod(alwaysRun = true)
     public void setUp() {
-        logger = LogManager.getLogger(this.getClass());
         logger.info("Starting test...");
-        driver = DriverManager.getDriver();
-        driver.get(ConfigReader.getBaseUrl());
-        logger.info("Navigated to: " + ConfigReader.getBaseUrl());
+        StepRetry.startTest();
+        String baseUrl = ConfigReader.isOfflineMode()
+                ? OfflineSiteServer.start().getBaseUrl()
+                : ConfigReader.getBaseUrl();
+        WebDriver driver = DriverManager.getDriver();
+        driver.get(baseUrl);
+        logger.info("Navigated to: {}", baseUrl);
     }
 
-    @AfterMethod
+    @AfterMethod(alwaysRun = true)
     public void tearDown() {
-        logger.info("Closing browser...");
-        DriverManager.quitDriver();
+        StepRetry.TestRetries retries = StepRetry.finishTest();
+        if (retries.count() > 0) {
+            logger.info("Step retries in this test: {} ({} ms of retry budget used)", retries.count(), retries.usedMillis());
+        }
+        logger.info("Releasing browser...");
+        DriverManager.releaseDriver();
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void shutDownDriverPool() {
+        DriverManager.shutdownPool();
+        OfflineSiteServer.stop();
+        RequestBlocker.logSummary();
+        if (ConfigReader.isRequestBlockingEnabled()) {
+            Allure.addAttachment("Request blocking summary", "text/plain", RequestBlocker.getSummary());
+        }
+        ScreenshotUtil.awaitPendingWrites(30);
+        ElementCache.logSummary();
+        StepRetry.logSummary();
+
+        StepMetrics.logSummary(15);
+        if (StepMetrics.writeReport() != null) {
+            Allure.addAttachment("Step timings (JSON)", "application/json", StepMetrics.toJson(), ".json");
+            Allure.addAttachment("Step timings (CSV)", "text/csv", StepMetrics.toCsv(), ".csv");
+        }
     }
 
     public WebDriver getDriver() {
-        return driver;
+        return DriverManager.getCurrentDriver();
     }
 }
 
@@ -0,0 +1,26 @@
+package data;
+
+import java.time.LocalDate;
+
+public record RouteCase(String id, boolean oneWay, String origin, String destination,
+                        LocalDate departureDate, LocalDate returnDate,
+                        int timeFrom, int timeTo, String airline, boolean directOnly, boolean sortByPrice) {
+
+    public boolean hasTimeFilter() {
+        return timeFrom >= 0 && timeTo > timeFrom;
+    }
+
+    // "ALL" (or empty) means no airline filter; otherwise codes joined by '|', e.g. TK|PC.
+    public String[] airlineCodes() {
+        if (airline == null || airline.isBlank() || "ALL".equalsIgnoreCase(airline.trim())) {
+            return new String[0];
+        }
+        return airline.trim().split("\\s*\\|\\s*");
+    }
+
+    // Shown by TestNG and Allure as the data provider parameter.
+    @Override
+    public String toString() {
+        return id + " " + origin + "-" + destination + " " + departureDate + (oneWay ? "" : "/" + returnDate);
+    }
+}
@@ -0,0 +1,122 @@
+package data;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Loads route cases from a classpath CSV or JSON file. Dates are either dd.MM.yyyy or "+N",
+// meaning N days from today, so a checked-in matrix doesn't drift into the past.
+public class RouteMatrix {
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+
+    public static List<RouteCase> load(String resource) {
+        try (InputStream input = RouteMatrix.class.getClassLoader().getResourceAsStream(resource)) {
+            if (input == null) {
+                throw new IllegalStateException("Route matrix not found on the classpath: " + resource);
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            List<Map<String, String>> rows = resource.endsWith(".json") ? readJson(reader) : readCsv(reader);
+
+            List<RouteCase> cases = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                cases.add(toRouteCase(rows.get(i), i + 1));
+            }
+            return cases;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read route matrix " + resource, e);
+        }
+    }
+
+    private static List<Map<String, String>> readCsv(BufferedReader reader) throws IOException {
+        List<Map<String, String>> rows = new ArrayList<>();
+        String[] header = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            String[] values = line.split(",", -1);
+            if (header == null) {
+                header = values;
+                continue;
+            }
+            Map<String, String> row = new LinkedHashMap<>();
+            for (int i = 0; i < header.length; i++) {
+                row.put(header[i].trim(), i < values.length ? values[i].trim() : "");
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static List<Map<String, String>> readJson(BufferedReader reader) {
+        List<Map<String, Object>> entries = new Json().toType(reader, Json.LIST_OF_MAPS_TYPE);
+        List<Map<String, String>> rows = new ArrayList<>();
+        for (Map<String, Object> entry : entries) {
+            Map<String, String> row = new LinkedHashMap<>();
+            entry.forEach((key, value) -> row.put(key, value == null ? "" : String.valueOf(value)));
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static RouteCase toRouteCase(Map<String, String> row, int line) {
+        String tripType = row.getOrDefault("tripType", "round");
+        boolean oneWay = tripType.equalsIgnoreCase("oneway") || tripType.equalsIgnoreCase("one-way");
+        LocalDate departureDate = parseDate(row.get("departureDate"), "departureDate", line);
+        LocalDate returnDate = oneWay ? null : parseDate(row.get("returnDate"), "returnDate", line);
+        if (departureDate == null || (!oneWay && returnDate == null)) {
+            throw new IllegalStateException("Route matrix row " + line + " is missing a date");
+        }
+
+        return new RouteCase(
+                row.getOrDefault("id", "route-" + line),
+                oneWay,
+                required(row, "origin", line),
+                required(row, "destination", line),
+                departureDate,
+                returnDate,
+                parseHour(row.get("timeFrom")),
+                parseHour(row.get("timeTo")),
+                row.getOrDefault("airline", "ALL"),
+                Boolean.parseBoolean(row.get("directOnly")),
+                Boolean.parseBoolean(row.get("sortByPrice")));
+    }
+
+    private static String required(Map<String, String> row, String key, int line) {
+        String value = row.get(key);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalStateException("Route matrix row " + line + " has no " + key);
+        }
+        return value;
+    }
+
+    private static LocalDate parseDate(String value, String key, int line) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            if (value.startsWith("+")) {
+                return LocalDate.now().plusDays(Long.parseLong(value.substring(1)));
+            }
+            return LocalDate.parse(value, DATE_FORMAT);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalStateException("Route matrix row " + line + " has an invalid " + key + ": " + value);
+        }
+    }
+
+    private static int parseHour(String value) {
+        return value == null || value.isEmpty() ? -1 : Integer.parseInt(value);
+    }
+}
@@ -0,0 +1,103 @@
+package data;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class RouteMatrixParsingTest {
+
+    @Test
+    public void csvRowsBecomeRouteCases() {
+        List<RouteCase> cases = RouteMatrix.load("route-matrix/sample.csv");
+
+        Assert.assertEquals(cases.size(), 3);
+        RouteCase round = cases.get(0);
+        Assert.assertEquals(round.id(), "RT-RELATIVE");
+        Assert.assertFalse(round.oneWay());
+        Assert.assertEquals(round.origin(), "İstanbul");
+        Assert.assertEquals(round.destination(), "Ankara");
+        Assert.assertEquals(round.timeFrom(), 6);
+        Assert.assertEquals(round.timeTo(), 18);
+        Assert.assertTrue(round.hasTimeFilter());
+        Assert.assertTrue(round.directOnly());
+        Assert.assertFalse(round.sortByPrice());
+    }
+
+    @Test
+    public void relativeDatesCountDaysFromToday() {
+        RouteCase round = RouteMatrix.load("route-matrix/sample.csv").get(0);
+
+        Assert.assertEquals(round.departureDate(), LocalDate.now().plusDays(30));
+        Assert.assertEquals(round.returnDate(), LocalDate.now().plusDays(37));
+    }
+
+    @Test
+    public void oneWayRowsUseFixedDatesAndIgnoreReturn() {
+        RouteCase oneWay = RouteMatrix.load("route-matrix/sample.csv").get(1);
+
+        Assert.assertTrue(oneWay.oneWay());
+        Assert.assertEquals(oneWay.departureDate(), LocalDate.of(2026, 3, 5));
+        Assert.assertNull(oneWay.returnDate());
+        Assert.assertFalse(oneWay.hasTimeFilter());
+        Assert.assertTrue(oneWay.sortByPrice());
+        Assert.assertEquals(oneWay.toString(), "ONEWAY-FIXED İzmir-Antalya 2026-03-05");
+    }
+
+    @Test
+    public void airlineCodesSplitOnPipes() {
+        List<RouteCase> cases = RouteMatrix.load("route-matrix/sample.csv");
+
+        Assert.assertEquals(cases.get(0).airlineCodes(), new String[] {"TK", "PC"});
+        Assert.assertEquals(cases.get(1).airlineCodes(), new String[0]);
+        Assert.assertEquals(cases.get(2).airlineCodes(), new String[] {"TK"});
+    }
+
+    @Test
+    public void emptyFlagsAndHoursMeanNoFilter() {
+        RouteCase plain = RouteMatrix.load("route-matrix/sample.csv").get(2);
+
+        Assert.assertEquals(plain.timeFrom(), -1);
+        Assert.assertEquals(plain.timeTo(), -1);
+        Assert.assertFalse(plain.hasTimeFilter());
+        Assert.assertFalse(plain.directOnly());
+        Assert.assertFalse(plain.sortByPrice());
+    }
+
+    @Test
+    public void jsonRowsParseLikeCsv() {
+        List<RouteCase> cases = RouteMatrix.load("route-matrix/sample.json");
+
+        Assert.assertEquals(cases.size(), 1);
+        RouteCase round = cases.get(0);
+        Assert.assertEquals(round.id(), "JSON-RT");
+        Assert.assertEquals(round.departureDate(), LocalDate.now().plusDays(7));
+        Assert.assertEquals(round.returnDate(), LocalDate.now().plusDays(14));
+        Assert.assertEquals(round.timeFrom(), 6);
+        Assert.assertEquals(round.airlineCodes(), new String[] {"TK", "AJ"});
+        Assert.assertTrue(round.directOnly());
+        Assert.assertTrue(round.sortByPrice());
+    }
+
+    @Test
+    public void roundTripWithoutReturnDateIsRejected() {
+        IllegalStateException e = Assert.expectThrows(IllegalStateException.class,
+                () -> RouteMatrix.load("route-matrix/missing-return.csv"));
+
+        Assert.assertTrue(e.getMessage().contains("row 1"), e.getMessage());
+    }
+
+    @Test
+    public void malformedRelativeDateIsRejected() {
+        IllegalStateException e = Assert.expectThrows(IllegalStateException.class,
+                () -> RouteMatrix.load("route-matrix/bad-date.csv"));
+
+        Assert.assertTrue(e.getMessage().contains("departureDate"), e.getMessage());
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void missingResourceIsRejected() {
+        RouteMatrix.load("route-matrix/absent.csv");
+    }
+}
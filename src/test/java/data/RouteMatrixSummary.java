@@ -0,0 +1,96 @@
+package data;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// Rows are appended to the CSV as each case finishes, so a run cut short by the CI timeout
+// still leaves a usable summary behind.
+public class RouteMatrixSummary {
+    private static final Logger logger = LogManager.getLogger(RouteMatrixSummary.class);
+    private static final String HEADER = "id,route,dates,status,flights,min_price,duration_ms,note";
+
+    private static final List<Row> rows = new ArrayList<>();
+    private static BufferedWriter writer;
+
+    public record Row(RouteCase route, String status, int flights, double minPrice, long durationMillis, String note) {
+    }
+
+    public static synchronized void record(Row row) {
+        rows.add(row);
+        try {
+            if (writer == null) {
+                Path file = Paths.get("test-output", "route-matrix", "summary.csv");
+                Files.createDirectories(file.getParent());
+                writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                writer.write(HEADER);
+                writer.newLine();
+            }
+            writer.write(toCsv(row));
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            logger.warn("Could not append route matrix summary row: {}", e.getMessage());
+        }
+    }
+
+    public static synchronized List<Row> getRows() {
+        return new ArrayList<>(rows);
+    }
+
+    public static synchronized String toTable() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format(Locale.ROOT, "%-12s %-24s %-23s %-8s %7s %12s %9s  %s%n",
+                "ID", "ROUTE", "DATES", "STATUS", "FLIGHTS", "MIN PRICE", "TIME (s)", "NOTE"));
+        int passed = 0;
+        for (Row row : rows) {
+            RouteCase route = row.route();
+            table.append(String.format(Locale.ROOT, "%-12s %-24s %-23s %-8s %7d %12s %9.1f  %s%n",
+                    route.id(), route.origin() + " - " + route.destination(), dates(route), row.status(),
+                    row.flights(), Double.isNaN(row.minPrice()) ? "-" : String.format(Locale.ROOT, "%,.2f", row.minPrice()),
+                    row.durationMillis() / 1000.0, row.note() == null ? "" : row.note()));
+            if ("PASSED".equals(row.status())) {
+                passed++;
+            }
+        }
+        table.append(passed).append('/').append(rows.size()).append(" route cases passed");
+        return table.toString();
+    }
+
+    public static synchronized void close() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                logger.warn("Could not close route matrix summary: {}", e.getMessage());
+            }
+            writer = null;
+        }
+    }
+
+    private static String toCsv(Row row) {
+        RouteCase route = row.route();
+        return String.join(",",
+                route.id(),
+                route.origin() + "-" + route.destination(),
+                dates(route),
+                row.status(),
+                String.valueOf(row.flights()),
+                Double.isNaN(row.minPrice()) ? "" : String.format(Locale.ROOT, "%.2f", row.minPrice()),
+                String.valueOf(row.durationMillis()),
+                "\"" + (row.note() == null ? "" : row.note().replace("\"", "'")) + "\"");
+    }
+
+    private static String dates(RouteCase route) {
+        return route.oneWay() ? route.departureDate().toString() : route.departureDate() + "/" + route.returnDate();
+    }
+}
@@ -0,0 +1,28 @@
+package listeners;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+import utils.ConfigReader;
+
+import java.util.List;
+
+public class ParallelSuiteListener implements IAlterSuiteListener {
+    private static final Logger logger = LogManager.getLogger(ParallelSuiteListener.class);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        XmlSuite.ParallelMode parallelMode = XmlSuite.ParallelMode.getValidParallel(ConfigReader.getParallelMode().key());
+        int threadCount = ConfigReader.getThreadCount();
+        int dataProviderThreadCount = ConfigReader.getDataProviderThreadCount();
+
+        for (XmlSuite suite : suites) {
+            suite.setParallel(parallelMode);
+            suite.setThreadCount(threadCount);
+            suite.setDataProviderThreadCount(dataProviderThreadCount);
+            logger.info("Suite '{}' configured: parallel={}, threads={}, dataProviderThreads={}",
+                    suite.getName(), parallelMode, threadCount, dataProviderThreadCount);
+        }
+    }
+}
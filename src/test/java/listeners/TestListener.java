@@ -1,60 +1,95 @@
 package listeners;
 
-import base.BaseTest;
 import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
+import utils.DriverManager;
 import utils.ScreenshotUtil;
 
 import java.io.ByteArrayInputStream;
 
 public class TestListener implements ITestListener {
     private static final Logger logger = LogManager.getLogger(TestListener.class);
+    private static final String TEST_LOG_KEY = "testLog";
 
     @Override
     public void onTestStart(ITestResult result) {
-        logger.info("Test Started: " + result.getName());
+        ThreadContext.put(TEST_LOG_KEY, testLogName(result));
+        logger.info("Test Started: {}", result.getName());
+    }
+
+    // Routes this thread's log events to logs/tests/<class>.<method>[#<invocation>]-<thread>.log until
+    // the test ends. Data-provider rows that run one after another on the same thread get their own file.
+    private static String testLogName(ITestResult result) {
+        StringBuilder name = new StringBuilder(result.getTestClass().getRealClass().getSimpleName())
+                .append('.').append(result.getName());
+        if (result.getParameters().length > 0) {
+            name.append('#').append(result.getMethod().getCurrentInvocationCount());
+        }
+        return name.append('-').append(Thread.currentThread().getId()).toString();
     }
 
     @Override
     public void onTestSuccess(ITestResult result) {
-        logger.info("Test Passed: " + result.getName());
+        logger.info("Test Passed: {}", result.getName());
+        ThreadContext.remove(TEST_LOG_KEY);
     }
 
     @Override
     public void onTestFailure(ITestResult result) {
-        logger.error("Test Failed: " + result.getName());
-        logger.error("Error: " + result.getThrowable());
+        logger.error("Test Failed: {}", result.getName());
+        logger.error("Error: {}", result.getThrowable());
 
-        Object testClass = result.getInstance();
-        WebDriver driver = ((BaseTest) testClass).getDriver();
+        WebDriver driver = DriverManager.getCurrentDriver();
+        ThreadContext.remove(TEST_LOG_KEY);
 
         if (driver != null) {
-            String screenshotPath = ScreenshotUtil.captureScreenshot(driver, result.getName());
-            logger.info("Screenshot saved at: " + screenshotPath);
+            byte[] screenshot;
+            try {
+                screenshot = ScreenshotUtil.captureScreenshotAsBytes(driver);
+            } catch (WebDriverException e) {
+                logger.error("Could not capture screenshot for {}", result.getName(), e);
+                return;
+            }
+
+            // The attachment is registered on the failing test here, once the bytes exist; its content
+            // is written by the screenshot writer thread, which doesn't carry the test's Allure context.
+            AllureLifecycle lifecycle = Allure.getLifecycle();
+            String attachmentSource = lifecycle.prepareAttachment("Failed Screenshot", "image/png", "png");
 
-            byte[] screenshotBytes = ScreenshotUtil.captureScreenshotAsBytes(driver);
-            Allure.addAttachment("Failed Screenshot", new ByteArrayInputStream(screenshotBytes));
+            ScreenshotUtil.saveScreenshotAsync(screenshot, result.getName(),
+                            png -> lifecycle.writeAttachment(attachmentSource, new ByteArrayInputStream(png)))
+                    .whenComplete((screenshotPath, error) -> {
+                        if (error != null) {
+                            logger.error("Could not write the screenshot attachment for {}", result.getName(), error);
+                        } else {
+                            logger.info("Screenshot saved at: {}", screenshotPath);
+                        }
+                    });
         }
     }
 
     @Override
     public void onTestSkipped(ITestResult result) {
-        logger.warn("Test Skipped: " + result.getName());
+        logger.warn("Test Skipped: {}", result.getName());
+        ThreadContext.remove(TEST_LOG_KEY);
     }
 
     @Override
     public void onStart(ITestContext context) {
-        logger.info("Test Suite Started: " + context.getName());
+        logger.info("Test Suite Started: {}", context.getName());
     }
 
     @Override
     public void onFinish(ITestContext context) {
-        logger.info("Test Suite Finished: " + context.getName());
+        logger.info("Test Suite Finished: {}", context.getName());
     }
 }
 
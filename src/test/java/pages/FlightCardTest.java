@@ -0,0 +1,32 @@
+package pages;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class FlightCardTest {
+
+    private static FlightCard departingAt(String time) {
+        return new FlightCard(0, 1000.0, "1.000 TL", "Türk Hava Yolları", time, 0);
+    }
+
+    @Test
+    public void departureTimeBecomesMinuteOfDay() {
+        Assert.assertEquals(departingAt("00:00").departureMinuteOfDay(), 0);
+        Assert.assertEquals(departingAt("06:15").departureMinuteOfDay(), 375);
+        Assert.assertEquals(departingAt("23:59").departureMinuteOfDay(), 1439);
+    }
+
+    @Test
+    public void unreadableDepartureTimeIsMinusOne() {
+        Assert.assertEquals(departingAt(null).departureMinuteOfDay(), -1);
+        Assert.assertEquals(departingAt("").departureMinuteOfDay(), -1);
+        Assert.assertEquals(departingAt("6:15").departureMinuteOfDay(), -1);
+        Assert.assertEquals(departingAt("ab:cd").departureMinuteOfDay(), -1);
+    }
+
+    @Test
+    public void missingPriceIsNaN() {
+        Assert.assertFalse(new FlightCard(0, Double.NaN, "", "", "06:15", 0).hasPrice());
+        Assert.assertTrue(departingAt("06:15").hasPrice());
+    }
+}
@@ -0,0 +1,96 @@
+package pages;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+public class FlightFilterTest {
+
+    @Test
+    public void noneIsEmpty() {
+        FlightFilter filter = FlightFilter.none();
+
+        Assert.assertTrue(filter.isEmpty());
+        Assert.assertFalse(filter.hasDepartureWindow());
+        Assert.assertEquals(filter.toString(), "none");
+    }
+
+    @Test
+    public void criteriaAccumulateWithoutChangingTheOriginal() {
+        FlightFilter base = FlightFilter.none().withAirlines("TK");
+        FlightFilter extended = base.withAirlines("PC").withAirports("SAW", "IST").withStops(0);
+
+        Assert.assertEquals(base.airlines(), Set.of("TK"));
+        Assert.assertTrue(base.airports().isEmpty());
+        Assert.assertEquals(extended.airlines(), Set.of("TK", "PC"));
+        Assert.assertEquals(extended.airports(), Set.of("SAW", "IST"));
+        Assert.assertEquals(extended.stopCounts(), Set.of(0));
+        Assert.assertFalse(extended.isEmpty());
+    }
+
+    @Test
+    public void codesKeepTheOrderTheyWereAddedIn() {
+        FlightFilter filter = FlightFilter.none().withAirlines("PC", "TK").withAirlines("AJ", "PC");
+
+        Assert.assertEquals(new ArrayList<>(filter.airlines()), List.of("PC", "TK", "AJ"));
+        Assert.assertEquals(filter.toString(), "airlines=[PC, TK, AJ]");
+    }
+
+    @Test
+    public void repeatedCodesAreKeptOnce() {
+        FlightFilter filter = FlightFilter.none().withAirports("SAW", "SAW").withAirports("SAW");
+
+        Assert.assertEquals(filter.airports(), Set.of("SAW"));
+    }
+
+    @Test
+    public void departureWindowAloneIsAFilter() {
+        FlightFilter filter = FlightFilter.none().withDepartureHours(6, 18);
+
+        Assert.assertTrue(filter.hasDepartureWindow());
+        Assert.assertFalse(filter.isEmpty());
+        Assert.assertEquals(filter.departureFromHour(), 6);
+        Assert.assertEquals(filter.departureToHour(), 18);
+        Assert.assertEquals(filter.toString(), "departure=6:00-18:00");
+    }
+
+    @Test
+    public void fullDayIsAValidWindow() {
+        Assert.assertTrue(FlightFilter.none().withDepartureHours(0, 24).hasDepartureWindow());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void reversedWindowIsRejected() {
+        FlightFilter.none().withDepartureHours(18, 6);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void emptyWindowIsRejected() {
+        FlightFilter.none().withDepartureHours(6, 6);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void windowBeforeMidnightIsRejected() {
+        FlightFilter.none().withDepartureHours(-1, 6);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void windowPastMidnightIsRejected() {
+        FlightFilter.none().withDepartureHours(20, 25);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void criteriaCannotBeModifiedInPlace() {
+        FlightFilter.none().withAirlines("TK").airlines().add("PC");
+    }
+
+    @Test
+    public void toStringListsEveryCriterion() {
+        FlightFilter filter = FlightFilter.none().withStops(0).withAirlines("TK").withAirports("SAW").withDepartureHours(6, 18);
+
+        Assert.assertEquals(filter.toString(), "stops=[0] airlines=[TK] airports=[SAW] departure=6:00-18:00");
+    }
+}
@@ -0,0 +1,50 @@
+package pages;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+public class PriceSortingTest {
+
+    private static FlightCard card(int index, double price) {
+        return new FlightCard(index, price, price + " TL", "Pegasus", "09:00", 0);
+    }
+
+    @Test
+    public void reportNamesTheFiltersItWasGiven() {
+        PriceSortResult result = FlightListPage.evaluatePriceSorting(
+                List.of(card(0, 900), card(1, 1200)), "airlines=[PC] departure=9:00-12:00");
+
+        Assert.assertTrue(result.priceDetails().contains("Filter: airlines=[PC] departure=9:00-12:00\n"),
+                result.priceDetails());
+        Assert.assertFalse(result.priceDetails().contains("Turkish Airlines"), result.priceDetails());
+    }
+
+    @Test
+    public void ascendingPricesPass() {
+        PriceSortResult result = FlightListPage.evaluatePriceSorting(
+                List.of(card(0, 900), card(1, 900), card(2, 1500)), "none");
+
+        Assert.assertTrue(result.success());
+        Assert.assertEquals(result.flightCount(), 3);
+        Assert.assertEquals(result.minPrice(), 900.0);
+    }
+
+    @Test
+    public void descendingPairFails() {
+        PriceSortResult result = FlightListPage.evaluatePriceSorting(
+                List.of(card(0, 900), card(1, 1500), card(2, 1200)), "none");
+
+        Assert.assertFalse(result.success());
+        Assert.assertTrue(result.priceDetails().contains("VERIFICATION FAILED"), result.priceDetails());
+    }
+
+    @Test
+    public void singleCardHasTooFewPricesToCompare() {
+        PriceSortResult result = FlightListPage.evaluatePriceSorting(List.of(card(0, 900)), "none");
+
+        Assert.assertTrue(result.success());
+        Assert.assertEquals(result.message(), "Insufficient prices for comparison");
+    }
+}
@@ -0,0 +1,75 @@
+package tests;
+
+import base.BaseTest;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+import pages.FlightCard;
+import pages.FlightListPage;
+import utils.ConfigReader;
+import utils.OfflineSiteServer;
+
+import java.util.List;
+
+// Runs FlightListPage against the offline fixture with a fixed number of results; needs mode=offline.
+@Epic("Flight Booking")
+@Feature("Flight Results Parsing")
+public class FlightListFixtureTest extends BaseTest {
+
+    private FlightListPage openResults(int count) {
+        if (!ConfigReader.isOfflineMode()) {
+            throw new SkipException("Fixture tests run only with mode=offline");
+        }
+        getDriver().get(OfflineSiteServer.start().getBaseUrl()
+                + "/flights.html?origin=IST&destination=ESB&departure=2026-03-05&count=" + count);
+        return new FlightListPage(getDriver());
+    }
+
+    @Test
+    @Description("A results page with a single flight still yields its departure time, airline and stop count")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Single result")
+    public void singleFlightCardIsParsed() {
+        FlightListPage flightListPage = openResults(1);
+        flightListPage.waitForResultsToSettle();
+        
+        List<FlightCard> cards = flightListPage.extractFlightCards();
+        logger.info("Extracted cards: {}", cards);
+        
+        Assert.assertEquals(cards.size(), 1);
+        FlightCard card = cards.get(0);
+        Assert.assertTrue(card.hasPrice(), "price");
+        Assert.assertFalse(card.airline().isEmpty(), "airline");
+        Assert.assertTrue(card.departureTime().matches("\\d{2}:\\d{2}"), "departure time: " + card.departureTime());
+        Assert.assertTrue(card.stopCount() >= 0, "stop count: " + card.stopCount());
+    }
+
+    @Test
+    @Description("The departure time check passes on a page with a single flight")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Single result")
+    public void singleFlightPassesTimeRangeCheck() {
+        FlightListPage flightListPage = openResults(1);
+        
+        Assert.assertTrue(flightListPage.verifyFlightTimesInRange(0, 24),
+                "A single flight departing any time of day should be within 00:00 - 24:00");
+    }
+
+    @Test
+    @Description("Every card on a multi-flight page gets its own departure time")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Several results")
+    public void everyFlightCardIsParsed() {
+        FlightListPage flightListPage = openResults(5);
+        flightListPage.waitForResultsToSettle();
+        
+        List<FlightCard> cards = flightListPage.extractFlightCards();
+        
+        Assert.assertEquals(cards.size(), 5);
+        for (FlightCard card : cards) {
+            Assert.assertTrue(card.departureMinuteOfDay() >= 0, "departure time: " + card.departureTime());
+            Assert.assertFalse(card.airline().isEmpty(), "airline");
+        }
+    }
+}
@@ -5,8 +5,11 @@ import io.qameta.allure.*;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 import pages.HomePage;
+import pages.FlightFilter;
 import pages.FlightListPage;
+import pages.PriceSortResult;
 import utils.ConfigReader;
+import utils.ConfigSnapshot.TravelDate;
 
 @Epic("Flight Booking")
 @Feature("Flight Search and Filtering")
@@ -41,8 +44,6 @@ public class FlightSearchTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Story("Basic Flight Search with Time Filter")
     public void testFlightSearchStep1() {
-        HomePage homePage = new HomePage(driver);
-        
         String originCity = ConfigReader.getOriginCity();
         String destinationCity = ConfigReader.getDestinationCity();
         String departureDate = ConfigReader.getDepartureDate();
@@ -53,50 +54,11 @@ public class FlightSearchTest extends BaseTest {
         Allure.parameter("Departure Date", departureDate);
         Allure.parameter("Return Date", returnDate);
         
-        logger.info("Test Parameters - Origin: " + originCity + ", Destination: " + destinationCity);
-        logger.info("Test Parameters - Departure: " + departureDate + ", Return: " + returnDate);
-        
-        Allure.step("Enter origin city: " + originCity, () -> {
-            homePage.enterOrigin(originCity);
-            logger.info("Step 1 completed: Origin city entered successfully");
-        });
-        
-        Allure.step("Enter destination city: " + destinationCity, () -> {
-            homePage.enterDestination(destinationCity);
-            logger.info("Step 2 completed: Destination city entered successfully");
-        });
-        
-        String formattedDepartureDate = ConfigReader.getFormattedDepartureDate();
-        String departureMonthYear = ConfigReader.getDepartureMonthYear();
-        Allure.step("Select departure date: " + departureDate, () -> {
-            homePage.selectDepartureDate(formattedDepartureDate, departureMonthYear);
-            logger.info("Step 3 completed: Departure date selected successfully");
-        });
+        logger.info("Test Parameters - Origin: {}, Destination: {}", originCity, destinationCity);
+        logger.info("Test Parameters - Departure: {}, Return: {}", departureDate, returnDate);
         
-        String formattedReturnDate = ConfigReader.getFormattedReturnDate();
-        String returnMonthYear = ConfigReader.getReturnMonthYear();
-        Allure.step("Select return date: " + returnDate, () -> {
-            homePage.selectReturnDate(formattedReturnDate, returnMonthYear);
-            logger.info("Step 4 completed: Return date selected successfully");
-        });
-        
-        Allure.step("Disable 'Ucuz bilet bul' checkbox if checked", () -> {
-            homePage.disableCheapFlightCheckboxIfChecked();
-            logger.info("Step 4.5 completed: 'Ucuz bilet bul' checkbox kontrolü tamamlandı - pasif durumda");
-        });
-        
-        Allure.step("Click search button", () -> {
-            homePage.clickSearchButton();
-            logger.info("Step 5 completed: Search button clicked successfully");
-        });
-        
-        try {
-            Thread.sleep(5000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-        
-        FlightListPage flightListPage = new FlightListPage(driver);
+        FlightListPage flightListPage = searchFlights(originCity, destinationCity,
+                ConfigReader.snapshot().getDepartureDate(), ConfigReader.snapshot().getReturnDate());
         
         Allure.step("Apply time filter (06:00 - 18:00)", () -> {
             flightListPage.setDepartureTimeFilter(6, 18);
@@ -104,12 +66,13 @@ public class FlightSearchTest extends BaseTest {
         });
         
         Allure.step("Verify filtered results", () -> {
-            logger.info("Waiting to observe filtered results...");
-            try {
-                Thread.sleep(10000);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
+            logger.info("Waiting for filtered results to settle...");
+            flightListPage.waitForResultsToSettle();
+            
+            boolean allFlightsInRange = flightListPage.verifyFlightTimesInRange(6, 18);
+            Assert.assertTrue(allFlightsInRange,
+                "Time filter verification failed! Some flights depart outside 06:00 - 18:00.");
+            
             Allure.addAttachment("Filter Status", "text/plain", 
                 "Time filter applied: 06:00 - 18:00\nFlights filtered successfully");
         });
@@ -153,8 +116,6 @@ public class FlightSearchTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Story("Advanced Flight Filtering and Price Verification")
     public void testFlightSearchStep2() {
-        HomePage homePage = new HomePage(driver);
-        
         String originCity = ConfigReader.getOriginCity();
         String destinationCity = ConfigReader.getDestinationCity();
         String departureDate = ConfigReader.getDepartureDate();
@@ -165,50 +126,11 @@ public class FlightSearchTest extends BaseTest {
         Allure.parameter("Departure Date", departureDate);
         Allure.parameter("Return Date", returnDate);
         
-        logger.info("Test Parameters - Origin: " + originCity + ", Destination: " + destinationCity);
-        logger.info("Test Parameters - Departure: " + departureDate + ", Return: " + returnDate);
+        logger.info("Test Parameters - Origin: {}, Destination: {}", originCity, destinationCity);
+        logger.info("Test Parameters - Departure: {}, Return: {}", departureDate, returnDate);
         
-        Allure.step("Enter origin city: " + originCity, () -> {
-            homePage.enterOrigin(originCity);
-            logger.info("Step 1 completed: Origin city entered successfully");
-        });
-        
-        Allure.step("Enter destination city: " + destinationCity, () -> {
-            homePage.enterDestination(destinationCity);
-            logger.info("Step 2 completed: Destination city entered successfully");
-        });
-        
-        String formattedDepartureDate = ConfigReader.getFormattedDepartureDate();
-        String departureMonthYear = ConfigReader.getDepartureMonthYear();
-        Allure.step("Select departure date: " + departureDate, () -> {
-            homePage.selectDepartureDate(formattedDepartureDate, departureMonthYear);
-            logger.info("Step 3 completed: Departure date selected successfully");
-        });
-        
-        String formattedReturnDate = ConfigReader.getFormattedReturnDate();
-        String returnMonthYear = ConfigReader.getReturnMonthYear();
-        Allure.step("Select return date: " + returnDate, () -> {
-            homePage.selectReturnDate(formattedReturnDate, returnMonthYear);
-            logger.info("Step 4 completed: Return date selected successfully");
-        });
-        
-        Allure.step("Disable 'Ucuz bilet bul' checkbox if checked", () -> {
-            homePage.disableCheapFlightCheckboxIfChecked();
-            logger.info("Step 4.5 completed: 'Ucuz bilet bul' checkbox kontrolü tamamlandı - pasif durumda");
-        });
-        
-        Allure.step("Click search button", () -> {
-            homePage.clickSearchButton();
-            logger.info("Step 5 completed: Search button clicked successfully");
-        });
-        
-        try {
-            Thread.sleep(5000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-        
-        FlightListPage flightListPage = new FlightListPage(driver);
+        FlightListPage flightListPage = searchFlights(originCity, destinationCity,
+                ConfigReader.snapshot().getDepartureDate(), ConfigReader.snapshot().getReturnDate());
         
         Allure.step("Apply time filter (06:00 - 18:00)", () -> {
             flightListPage.setDepartureTimeFilter(6, 18);
@@ -229,10 +151,11 @@ public class FlightSearchTest extends BaseTest {
         });
         
         Allure.step("Verify price sorting accuracy", () -> {
-            java.util.Map<String, Object> verificationResult = flightListPage.verifyPriceSortingAccuracy();
+            PriceSortResult verificationResult = flightListPage.verifyPriceSortingAccuracy(
+                    "Turkish Airlines | Time: 06:00-18:00");
             
-            boolean isPriceSortingCorrect = (boolean) verificationResult.get("success");
-            String priceDetails = (String) verificationResult.get("priceDetails");
+            boolean isPriceSortingCorrect = verificationResult.success();
+            String priceDetails = verificationResult.priceDetails();
             
             Assert.assertTrue(isPriceSortingCorrect, 
                 "Price sorting verification failed! Prices are not in ascending order.");
@@ -243,11 +166,9 @@ public class FlightSearchTest extends BaseTest {
             Allure.addAttachment("Flight Price Verification Details", "text/plain", priceDetails);
             
             // Add summary information
-            @SuppressWarnings("unchecked")
-            java.util.List<Double> prices = (java.util.List<Double>) verificationResult.get("prices");
-            int flightCount = (int) verificationResult.get("flightCount");
-            double minPrice = (double) verificationResult.get("minPrice");
-            double maxPrice = (double) verificationResult.get("maxPrice");
+            int flightCount = verificationResult.flightCount();
+            double minPrice = verificationResult.minPrice();
+            double maxPrice = verificationResult.maxPrice();
             
             String summary = String.format(
                 "✓ Price Sorting Verification: PASSED\n\n" +
@@ -284,13 +205,9 @@ public class FlightSearchTest extends BaseTest {
         "7. Click search button\n" +
         "8. Wait for flight results page to load\n" +
         "9. Accept cookie consent if present\n" +
-        "10. Open transit (Aktarma) filter section\n" +
-        "11. Select direct flights only (Direkt uçuşlar)\n" +
-        "12. Apply time filter (06:00-18:00)\n" +
+        "10-12. Apply direct flights only (Direkt uçuşlar) and time filter (06:00-18:00) in one pass\n" +
         "13. Select all airlines (Tümünü seç)\n" +
-        "14. Open airport (Havalimanları) filter section\n" +
-        "15. Select SAW (Sabiha Gökçen) airport\n" +
-        "16. Select IST (Istanbul) airport\n" +
+        "14-16. Select SAW (Sabiha Gökçen) and IST (Istanbul) airports in one pass\n" +
         "17. Sort flights by price (low to high)\n" +
         "18. Verify price sorting accuracy\n" +
         "19. Scroll to top of the page\n" +
@@ -307,8 +224,6 @@ public class FlightSearchTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Story("One-Way Flight Search with Advanced Filtering")
     public void testFlightSearchStep3_OneWay() {
-        HomePage homePage = new HomePage(driver);
-        
         String originCity = ConfigReader.getOriginCity();
         String destinationCity = ConfigReader.getDestinationCity();
         String departureDate = ConfigReader.getOneWayDepartureDate();
@@ -318,62 +233,15 @@ public class FlightSearchTest extends BaseTest {
         Allure.parameter("Departure Date", departureDate);
         Allure.parameter("Trip Type", "One-Way");
         
-        logger.info("Test Parameters - Origin: " + originCity + ", Destination: " + destinationCity);
-        logger.info("Test Parameters - Departure: " + departureDate + " (ONE-WAY)");
-        
-        Allure.step("Select one-way trip option", () -> {
-            homePage.selectOneWayTrip();
-            logger.info("Step 1 completed: One-way trip selected");
-        });
+        logger.info("Test Parameters - Origin: {}, Destination: {}", originCity, destinationCity);
+        logger.info("Test Parameters - Departure: {} (ONE-WAY)", departureDate);
         
-        Allure.step("Enter origin city: " + originCity, () -> {
-            homePage.enterOrigin(originCity);
-            logger.info("Step 2 completed: Origin city entered successfully");
-        });
+        FlightListPage flightListPage = searchFlights(originCity, destinationCity,
+                ConfigReader.snapshot().getOneWayDepartureDate(), null);
         
-        Allure.step("Enter destination city: " + destinationCity, () -> {
-            homePage.enterDestination(destinationCity);
-            logger.info("Step 3 completed: Destination city entered successfully");
-        });
-        
-        String formattedDepartureDate = ConfigReader.getFormattedOneWayDepartureDate();
-        String departureMonthYear = ConfigReader.getOneWayDepartureMonthYear();
-        Allure.step("Select departure date: " + departureDate, () -> {
-            homePage.selectDepartureDate(formattedDepartureDate, departureMonthYear);
-            logger.info("Step 4 completed: Departure date selected successfully");
-        });
-        
-        Allure.step("Disable 'Ucuz bilet bul' checkbox if checked", () -> {
-            homePage.disableCheapFlightCheckboxIfChecked();
-            logger.info("Step 5 completed: 'Ucuz bilet bul' checkbox kontrolü tamamlandı - pasif durumda");
-        });
-        
-        Allure.step("Click search button", () -> {
-            homePage.clickSearchButton();
-            logger.info("Step 6 completed: Search button clicked successfully");
-        });
-        
-        try {
-            Thread.sleep(5000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-        
-        FlightListPage flightListPage = new FlightListPage(driver);
-        
-        Allure.step("Open transit (Aktarma) filter", () -> {
-            flightListPage.openTransitFilter();
-            logger.info("Step 7 completed: Transit filter opened");
-        });
-        
-        Allure.step("Select direct flights only", () -> {
-            flightListPage.selectDirectFlights();
-            logger.info("Step 8 completed: Direct flights checkbox selected");
-        });
-        
-        Allure.step("Apply time filter (06:00 - 18:00)", () -> {
-            flightListPage.setDepartureTimeFilter(6, 18);
-            logger.info("Step 9 completed: Time filter applied (06:00 - 18:00)");
+        Allure.step("Apply filters: direct flights, 06:00 - 18:00", () -> {
+            flightListPage.applyFilters(FlightFilter.none().withStops(0).withDepartureHours(6, 18));
+            logger.info("Steps 7-9 completed: Direct flights and time filter (06:00 - 18:00) applied");
         });
         
         Allure.step("Open airline filter and select all airlines", () -> {
@@ -384,19 +252,9 @@ public class FlightSearchTest extends BaseTest {
             logger.info("Step 10b completed: All airlines selected (Tümünü seç)");
         });
         
-        Allure.step("Open airport (Havalimanları) filter", () -> {
-            flightListPage.openAirportFilter();
-            logger.info("Step 11 completed: Airport filter opened");
-        });
-        
-        Allure.step("Select SAW (Sabiha Gökçen) airport", () -> {
-            flightListPage.selectSawAirport();
-            logger.info("Step 12 completed: SAW airport selected");
-        });
-        
-        Allure.step("Select IST (Istanbul) airport", () -> {
-            flightListPage.selectIstAirport();
-            logger.info("Step 13 completed: IST airport selected");
+        Allure.step("Apply filters: SAW and IST airports", () -> {
+            flightListPage.applyFilters(FlightFilter.none().withAirports("SAW", "IST"));
+            logger.info("Steps 11-13 completed: SAW and IST airports selected");
         });
         
         Allure.step("Sort flights by price (low to high)", () -> {
@@ -405,10 +263,11 @@ public class FlightSearchTest extends BaseTest {
         });
         
         Allure.step("Verify price sorting accuracy", () -> {
-            java.util.Map<String, Object> verificationResult = flightListPage.verifyPriceSortingAccuracy();
+            PriceSortResult verificationResult = flightListPage.verifyPriceSortingAccuracy(
+                    "Direct | Time: 06:00-18:00 | All airlines | Airports: SAW, IST");
             
-            boolean isPriceSortingCorrect = (boolean) verificationResult.get("success");
-            String priceDetails = (String) verificationResult.get("priceDetails");
+            boolean isPriceSortingCorrect = verificationResult.success();
+            String priceDetails = verificationResult.priceDetails();
             
             Assert.assertTrue(isPriceSortingCorrect, 
                 "Price sorting verification failed! Prices are not in ascending order.");
@@ -417,11 +276,9 @@ public class FlightSearchTest extends BaseTest {
             
             Allure.addAttachment("Flight Price Verification Details (One-Way)", "text/plain", priceDetails);
             
-            @SuppressWarnings("unchecked")
-            java.util.List<Double> prices = (java.util.List<Double>) verificationResult.get("prices");
-            int flightCount = (int) verificationResult.get("flightCount");
-            double minPrice = (double) verificationResult.get("minPrice");
-            double maxPrice = (double) verificationResult.get("maxPrice");
+            int flightCount = verificationResult.flightCount();
+            double minPrice = verificationResult.minPrice();
+            double maxPrice = verificationResult.maxPrice();
             
             String summary = String.format(
                 "✓ Price Sorting Verification: PASSED (ONE-WAY)\n\n" +
@@ -448,5 +305,68 @@ public class FlightSearchTest extends BaseTest {
         
         logger.info("Test Case 3 (One-Way) - Basic steps completed, ready for additional steps");
     }
-}
 
+    // Searches from the home page (one-way when returnDate is null), or restores the results page
+    // from a checkpoint of the same search, and returns the results page. A fresh search saves a
+    // checkpoint for the next test.
+    private FlightListPage searchFlights(String originCity, String destinationCity,
+                                         TravelDate departureDate, TravelDate returnDate) {
+        boolean oneWay = returnDate == null;
+        String checkpointKey = oneWay
+                ? String.join("|", "oneway", originCity, destinationCity, departureDate.raw())
+                : String.join("|", "round", originCity, destinationCity, departureDate.raw(), returnDate.raw());
+        
+        boolean restored = FlightListPage.restoreCheckpoint(getDriver(), checkpointKey);
+        if (restored) {
+            Allure.step("Restore flight results from checkpoint: " + checkpointKey);
+            logger.info("Search steps skipped: flight results restored from checkpoint");
+        } else {
+            HomePage homePage = new HomePage(getDriver());
+            
+            if (oneWay) {
+                Allure.step("Select one-way trip option", () -> {
+                    homePage.selectOneWayTrip();
+                    logger.info("Search step completed: One-way trip selected");
+                });
+            }
+            
+            Allure.step("Enter origin city: " + originCity, () -> {
+                homePage.enterOrigin(originCity);
+                logger.info("Search step completed: Origin city entered successfully");
+            });
+            
+            Allure.step("Enter destination city: " + destinationCity, () -> {
+                homePage.enterDestination(destinationCity);
+                logger.info("Search step completed: Destination city entered successfully");
+            });
+            
+            Allure.step("Select departure date: " + departureDate.raw(), () -> {
+                homePage.selectDepartureDate(departureDate.formatted(), departureDate.monthYear());
+                logger.info("Search step completed: Departure date selected successfully");
+            });
+            
+            if (!oneWay) {
+                Allure.step("Select return date: " + returnDate.raw(), () -> {
+                    homePage.selectReturnDate(returnDate.formatted(), returnDate.monthYear());
+                    logger.info("Search step completed: Return date selected successfully");
+                });
+            }
+            
+            Allure.step("Disable 'Ucuz bilet bul' checkbox if checked", () -> {
+                homePage.disableCheapFlightCheckboxIfChecked();
+                logger.info("Search step completed: 'Ucuz bilet bul' checkbox kontrolü tamamlandı - pasif durumda");
+            });
+            
+            Allure.step("Click search button", () -> {
+                homePage.clickSearchButton();
+                logger.info("Search step completed: Search button clicked successfully");
+            });
+        }
+        
+        FlightListPage flightListPage = new FlightListPage(getDriver());
+        if (!restored) {
+            flightListPage.saveCheckpoint(checkpointKey);
+        }
+        return flightListPage;
+    }
+}
@@ -0,0 +1,52 @@
+package tests;
+
+import base.BaseTest;
+import io.qameta.allure.*;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+import pages.FlightListPage;
+import utils.Browser;
+import utils.ConfigReader;
+import utils.OfflineSiteServer;
+import utils.RequestBlocker;
+
+// Checks blocked-request counting against the offline fixture; needs mode=offline and requestBlocking=true in Chrome.
+@Epic("Flight Booking")
+@Feature("Request Blocking")
+public class RequestBlockerFixtureTest extends BaseTest {
+
+    private static final String BLOCKED_URL = "http://ads.doubleclick.net/pixel.gif";
+
+    @Test
+    @Description("A blocked request made from the results tab is counted exactly once")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Results tab")
+    public void blockedRequestIsCountedAfterSwitchToResultsTab() {
+        if (!ConfigReader.isOfflineMode() || !ConfigReader.isRequestBlockingEnabled()
+                || ConfigReader.getBrowser() != Browser.CHROME) {
+            throw new SkipException("Runs only with mode=offline, requestBlocking=true and Chrome");
+        }
+        
+        String resultsUrl = OfflineSiteServer.start().getBaseUrl()
+                + "/flights.html?origin=IST&destination=ESB&departure=2026-03-05&count=1";
+        ((JavascriptExecutor) getDriver()).executeScript("window.open(arguments[0], '_blank');", resultsUrl);
+        
+        // Switches to the new tab and attaches the blocker to it; attaching again must not add a second session.
+        new FlightListPage(getDriver());
+        RequestBlocker.attach(getDriver());
+        
+        long before = RequestBlocker.getBlockedRequests();
+        ((JavascriptExecutor) getDriver()).executeAsyncScript(
+                "var done = arguments[arguments.length - 1];"
+                        + "fetch(arguments[0], {mode: 'no-cors'}).then(function () { done(); }, function () { done(); });",
+                BLOCKED_URL);
+        
+        new WebDriverWait(getDriver(), ConfigReader.getTimeoutDuration())
+                .until(driver -> RequestBlocker.getBlockedRequests() > before);
+        Assert.assertEquals(RequestBlocker.getBlockedRequests(), before + 1,
+                "The request to " + BLOCKED_URL + " should be counted once");
+    }
+}
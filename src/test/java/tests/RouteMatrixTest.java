@@ -0,0 +1,173 @@
+package tests;
+
+import base.BaseTest;
+import data.RouteCase;
+import data.RouteMatrix;
+import data.RouteMatrixSummary;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import pages.FlightCard;
+import pages.FlightFilter;
+import pages.FlightListPage;
+import pages.HomePage;
+import pages.PriceSortResult;
+import utils.ConfigReader;
+import utils.ConfigSnapshot;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+
+@Epic("Flight Booking")
+@Feature("Route Matrix")
+public class RouteMatrixTest extends BaseTest {
+    private static final String FLIGHTS = "routeMatrix.flights";
+    private static final String MIN_PRICE = "routeMatrix.minPrice";
+
+    private long matrixStart;
+
+    @BeforeClass(alwaysRun = true)
+    public void startClock() {
+        matrixStart = System.currentTimeMillis();
+    }
+
+    @DataProvider(name = "routes", parallel = true)
+    public Object[][] routes() {
+        List<RouteCase> cases = RouteMatrix.load(ConfigReader.getRouteMatrixFile());
+        logger.info("Loaded {} route cases from {}", cases.size(), ConfigReader.getRouteMatrixFile());
+
+        Object[][] data = new Object[cases.size()][1];
+        for (int i = 0; i < cases.size(); i++) {
+            data[i][0] = cases.get(i);
+        }
+        return data;
+    }
+
+    @Test(dataProvider = "routes")
+    @Description("Searches one route from the route matrix, applies its filters and verifies the results")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Data-driven route search")
+    public void searchRoute(RouteCase route) {
+        Duration budget = ConfigReader.getRouteMatrixTimeBudget();
+        if (!budget.isZero() && System.currentTimeMillis() - matrixStart > budget.toMillis()) {
+            throw new SkipException("Route matrix time budget of " + budget.toSeconds() + " s exhausted");
+        }
+
+        Allure.parameter("Route", route.id());
+        logger.info("Route case: {}", route);
+
+        // Cases that share a search differ only in filters, so the results page is reused.
+        String checkpointKey = String.join("|", route.oneWay() ? "oneway" : "round", route.origin(),
+                route.destination(), String.valueOf(route.departureDate()), String.valueOf(route.returnDate()));
+        boolean restored = FlightListPage.restoreCheckpoint(getDriver(), checkpointKey);
+        if (!restored) {
+            HomePage homePage = new HomePage(getDriver());
+
+            if (route.oneWay()) {
+                Allure.step("Select one-way trip option", homePage::selectOneWayTrip);
+            }
+            Allure.step("Enter origin city: " + route.origin(), () -> homePage.enterOrigin(route.origin()));
+            Allure.step("Enter destination city: " + route.destination(), () -> homePage.enterDestination(route.destination()));
+            Allure.step("Select departure date: " + route.departureDate(), () -> homePage.selectDepartureDate(
+                    route.departureDate().toString(), ConfigSnapshot.formatMonthYear(YearMonth.from(route.departureDate()))));
+            if (!route.oneWay()) {
+                Allure.step("Select return date: " + route.returnDate(), () -> homePage.selectReturnDate(
+                        route.returnDate().toString(), ConfigSnapshot.formatMonthYear(YearMonth.from(route.returnDate()))));
+            }
+            Allure.step("Disable 'Ucuz bilet bul' checkbox if checked", homePage::disableCheapFlightCheckboxIfChecked);
+            Allure.step("Click search button", homePage::clickSearchButton);
+        }
+
+        FlightListPage flightListPage = new FlightListPage(getDriver());
+        if (!restored) {
+            flightListPage.saveCheckpoint(checkpointKey);
+        }
+
+        FlightFilter filter = FlightFilter.none().withAirlines(route.airlineCodes());
+        if (route.directOnly()) {
+            filter = filter.withStops(0);
+        }
+        if (route.hasTimeFilter()) {
+            filter = filter.withDepartureHours(route.timeFrom(), route.timeTo());
+        }
+        if (!filter.isEmpty()) {
+            FlightFilter criteria = filter;
+            Allure.step("Apply filters: " + criteria, () -> flightListPage.applyFilters(criteria));
+        }
+
+        FlightFilter applied = filter;
+        if (route.sortByPrice()) {
+            Allure.step("Sort by price and verify order", () -> {
+                flightListPage.sortByPriceAscending();
+                PriceSortResult result = flightListPage.verifyPriceSortingAccuracy(applied.toString());
+                recordResults(result.flightCount(), result.flightCount() > 0 ? result.minPrice() : Double.NaN);
+                Assert.assertTrue(result.success(), "Price sorting verification failed for " + route);
+            });
+        } else {
+            flightListPage.waitForResultsToSettle();
+            List<FlightCard> cards = flightListPage.extractFlightCards();
+            double minPrice = cards.stream().filter(FlightCard::hasPrice).mapToDouble(FlightCard::price).min().orElse(Double.NaN);
+            recordResults(cards.size(), minPrice);
+            Assert.assertFalse(cards.isEmpty(), "No flights listed for " + route);
+        }
+
+        if (route.hasTimeFilter()) {
+            Allure.step("Verify departure times", () -> Assert.assertTrue(
+                    flightListPage.verifyFlightTimesInRange(route.timeFrom(), route.timeTo()),
+                    "Flights outside " + route.timeFrom() + ":00 - " + route.timeTo() + ":00 for " + route));
+        }
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void recordRoute(ITestResult result) {
+        if (result.getParameters().length == 0 || !(result.getParameters()[0] instanceof RouteCase)) {
+            return;
+        }
+
+        String status;
+        switch (result.getStatus()) {
+            case ITestResult.SUCCESS:
+                status = "PASSED";
+                break;
+            case ITestResult.SKIP:
+                status = "SKIPPED";
+                break;
+            default:
+                status = "FAILED";
+                break;
+        }
+        Object flights = result.getAttribute(FLIGHTS);
+        Object minPrice = result.getAttribute(MIN_PRICE);
+        Throwable error = result.getThrowable();
+
+        RouteMatrixSummary.record(new RouteMatrixSummary.Row(
+                (RouteCase) result.getParameters()[0],
+                status,
+                flights instanceof Integer ? (Integer) flights : 0,
+                minPrice instanceof Double ? (Double) minPrice : Double.NaN,
+                result.getEndMillis() - result.getStartMillis(),
+                error == null ? null : error.getMessage()));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void publishSummary() {
+        RouteMatrixSummary.close();
+        String table = RouteMatrixSummary.toTable();
+        logger.info("Route matrix summary\n{}", table);
+        Allure.addAttachment("Route Matrix Summary", "text/plain", table);
+    }
+
+    private static void recordResults(int flights, double minPrice) {
+        ITestResult current = Reporter.getCurrentTestResult();
+        current.setAttribute(FLIGHTS, flights);
+        current.setAttribute(MIN_PRICE, minPrice);
+    }
+}
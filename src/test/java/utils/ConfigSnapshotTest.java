@@ -0,0 +1,125 @@
+package utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+
+public class ConfigSnapshotTest {
+
+    @Test
+    public void monthsAreFormattedInTurkish() {
+        Assert.assertEquals(ConfigSnapshot.formatMonthYear(YearMonth.of(2026, 1)), "Ocak 2026");
+        Assert.assertEquals(ConfigSnapshot.formatMonthYear(YearMonth.of(2026, 8)), "Ağustos 2026");
+        Assert.assertEquals(ConfigSnapshot.formatMonthYear(YearMonth.of(2027, 12)), "Aralık 2027");
+    }
+
+    @Test
+    public void everyFormattedMonthParsesBack() {
+        for (int month = 1; month <= 12; month++) {
+            YearMonth value = YearMonth.of(2026, month);
+            Assert.assertEquals(ConfigSnapshot.parseMonthYear(ConfigSnapshot.formatMonthYear(value)), value);
+        }
+    }
+
+    @Test
+    public void calendarLabelsParseRegardlessOfCaseAndSpacing() {
+        Assert.assertEquals(ConfigSnapshot.parseMonthYear("  ekim   2026 "), YearMonth.of(2026, 10));
+        Assert.assertEquals(ConfigSnapshot.parseMonthYear("KASIM 2026"), YearMonth.of(2026, 11));
+    }
+
+    @Test
+    public void unrecognisedLabelsParseAsNull() {
+        Assert.assertNull(ConfigSnapshot.parseMonthYear(""));
+        Assert.assertNull(ConfigSnapshot.parseMonthYear("Ocak"));
+        Assert.assertNull(ConfigSnapshot.parseMonthYear("October 2026"));
+        Assert.assertNull(ConfigSnapshot.parseMonthYear("Ocak yirmi"));
+        Assert.assertNull(ConfigSnapshot.parseMonthYear("Ocak 2026 Pazartesi"));
+    }
+
+    @Test
+    public void travelDateCarriesEveryFormatTheDatepickerNeeds() {
+        ConfigSnapshot.TravelDate date = ConfigSnapshot.TravelDate.parse("departureDate", "05.03.2026");
+
+        Assert.assertEquals(date.date(), LocalDate.of(2026, 3, 5));
+        Assert.assertEquals(date.raw(), "05.03.2026");
+        Assert.assertEquals(date.day(), "05");
+        Assert.assertEquals(date.formatted(), "2026-03-05");
+        Assert.assertEquals(date.monthYear(), "Mart 2026");
+    }
+
+    @Test
+    public void missingTravelDateIsNull() {
+        Assert.assertNull(ConfigSnapshot.TravelDate.parse("returnDate", null));
+        Assert.assertNull(ConfigSnapshot.TravelDate.parse("returnDate", ""));
+    }
+
+    @Test
+    public void malformedTravelDateNamesItsKey() {
+        IllegalStateException e = Assert.expectThrows(IllegalStateException.class,
+                () -> ConfigSnapshot.TravelDate.parse("returnDate", "2026-03-05"));
+
+        Assert.assertTrue(e.getMessage().contains("returnDate"), e.getMessage());
+    }
+
+    @Test
+    public void overridesApplyToKeysTheFileOmits() {
+        ConfigSnapshot config = ConfigSnapshot.of(Map.of("timeout", "10"),
+                Map.of("stepRetryAttempts", "4", "checkpointTtl", " 60 "));
+
+        Assert.assertEquals(config.getStepRetryAttempts(), 4);
+        Assert.assertEquals(config.getCheckpointTtl().getSeconds(), 60);
+        Assert.assertEquals(config.getProperty("stepRetryAttempts"), "4");
+    }
+
+    @Test
+    public void overridesWinOverFileValues() {
+        ConfigSnapshot config = ConfigSnapshot.of(Map.of("timeout", "10", "customKey", "file"),
+                Map.of("timeout", "25", "customKey", "override"));
+
+        Assert.assertEquals(config.getTimeout().getSeconds(), 25);
+        Assert.assertEquals(config.getProperty("customKey"), "override");
+    }
+
+    @Test
+    public void rawPropertiesOutsideTheFileStillSeeOverrides() {
+        ConfigSnapshot config = ConfigSnapshot.of(Map.of(), Map.of("extraKey", "value"));
+
+        Assert.assertEquals(config.getProperty("extraKey"), "value");
+        Assert.assertNull(config.getProperty("missingKey"));
+    }
+
+    @Test
+    public void modesDefaultToTheSerialPollingBaseline() {
+        ConfigSnapshot config = ConfigSnapshot.of(Map.of(), Map.of());
+
+        Assert.assertEquals(config.getWaitStrategy(), WaitStrategy.POLLING);
+        Assert.assertEquals(config.getParallelMode(), ParallelMode.NONE);
+    }
+
+    @Test
+    public void modesAreParsedCaseInsensitively() {
+        ConfigSnapshot config = ConfigSnapshot.of(Map.of("waitStrategy", "Mutation", "parallel", "METHODS"), Map.of());
+
+        Assert.assertEquals(config.getWaitStrategy(), WaitStrategy.MUTATION);
+        Assert.assertEquals(config.getParallelMode(), ParallelMode.METHODS);
+        Assert.assertEquals(ParallelMode.from("false"), ParallelMode.NONE);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void unknownWaitStrategyIsRejected() {
+        ConfigSnapshot.of(Map.of("waitStrategy", "fluent"), Map.of());
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void unknownParallelModeIsRejected() {
+        ConfigSnapshot.of(Map.of(), Map.of("parallel", "everything"));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void nonNumericThreadCountIsRejected() {
+        ConfigSnapshot.of(Map.of("threadCount", "four"), Map.of());
+    }
+}
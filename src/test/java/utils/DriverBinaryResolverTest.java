@@ -0,0 +1,75 @@
+package utils;
+
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+public class DriverBinaryResolverTest {
+    private Path directory;
+    private Path manifest;
+
+    @BeforeMethod
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("driver-manifest-");
+        manifest = directory.resolve("nested").resolve("drivers.properties");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteDirectory() {
+        FileUtils.deleteQuietly(directory.toFile());
+    }
+
+    @Test
+    public void missingManifestReadsAsEmpty() {
+        Assert.assertTrue(DriverBinaryResolver.readManifest(manifest).isEmpty());
+        Assert.assertTrue(DriverBinaryResolver.readManifest(null).isEmpty());
+    }
+
+    @Test
+    public void entriesAreWrittenAndReplacedPerBrowser() {
+        DriverBinaryResolver.updateManifest(manifest, "chrome", "/drivers/chromedriver-127");
+        DriverBinaryResolver.updateManifest(manifest, "firefox", "/drivers/geckodriver");
+        DriverBinaryResolver.updateManifest(manifest, "chrome", "/drivers/chromedriver-129");
+
+        Properties entries = DriverBinaryResolver.readManifest(manifest);
+        Assert.assertEquals(entries.size(), 2);
+        Assert.assertEquals(entries.getProperty("chrome"), "/drivers/chromedriver-129");
+        Assert.assertEquals(entries.getProperty("firefox"), "/drivers/geckodriver");
+    }
+
+    @Test
+    public void droppingAnEntryKeepsTheOthers() {
+        DriverBinaryResolver.updateManifest(manifest, "chrome", "/drivers/chromedriver-127");
+        DriverBinaryResolver.updateManifest(manifest, "firefox", "/drivers/geckodriver");
+
+        DriverBinaryResolver.updateManifest(manifest, "chrome", null);
+
+        Properties entries = DriverBinaryResolver.readManifest(manifest);
+        Assert.assertNull(entries.getProperty("chrome"));
+        Assert.assertEquals(entries.getProperty("firefox"), "/drivers/geckodriver");
+    }
+
+    @Test
+    public void droppingAMissingEntryDoesNotCreateTheManifest() {
+        DriverBinaryResolver.updateManifest(manifest, "chrome", null);
+
+        Assert.assertFalse(Files.exists(manifest));
+    }
+
+    @Test
+    public void noTempFilesAreLeftBehind() throws IOException {
+        DriverBinaryResolver.updateManifest(manifest, "chrome", "/drivers/chromedriver");
+        DriverBinaryResolver.updateManifest(manifest, "chrome", null);
+
+        try (var files = Files.list(manifest.getParent())) {
+            Assert.assertEquals(files.map(path -> path.getFileName().toString()).toList(), java.util.List.of("drivers.properties"));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.Map;
+
+public class OfflineSiteServerTest {
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        OfflineSiteServer.stop();
+    }
+
+    @Test
+    public void calendarStartsTodayWithoutPastTravelDates() {
+        Assert.assertEquals(OfflineSiteServer.calendarStart(TODAY), TODAY);
+        Assert.assertEquals(OfflineSiteServer.calendarStart(TODAY, null, travelDate("01.12.2026")), TODAY);
+    }
+
+    @Test
+    public void calendarStartsAtTheEarliestPastTravelDate() {
+        LocalDate start = OfflineSiteServer.calendarStart(TODAY,
+                travelDate("25.01.2026"), null, travelDate("15.01.2026"), travelDate("01.12.2026"));
+
+        Assert.assertEquals(start, LocalDate.of(2026, 1, 15));
+    }
+
+    @Test
+    public void countDefaultsWhenMissing() {
+        Assert.assertEquals(OfflineSiteServer.parseCount(null), Integer.valueOf(60));
+        Assert.assertEquals(OfflineSiteServer.parseCount(""), Integer.valueOf(60));
+    }
+
+    @Test
+    public void countIsLimitedToTheSupportedRange() {
+        Assert.assertEquals(OfflineSiteServer.parseCount("0"), Integer.valueOf(0));
+        Assert.assertEquals(OfflineSiteServer.parseCount(" 500 "), Integer.valueOf(500));
+        Assert.assertNull(OfflineSiteServer.parseCount("501"));
+        Assert.assertNull(OfflineSiteServer.parseCount("-1"));
+        Assert.assertNull(OfflineSiteServer.parseCount("99999999999"));
+        Assert.assertNull(OfflineSiteServer.parseCount("sixty"));
+    }
+
+    @Test
+    public void flightsAreDeterministicPerRoute() {
+        Map<String, String> route = Map.of("origin", "IST", "destination", "ESB", "departure", "2026-01-15");
+
+        String first = OfflineSiteServer.flightsJson(route, 5);
+        Assert.assertEquals(OfflineSiteServer.flightsJson(route, 5), first);
+        Assert.assertNotEquals(OfflineSiteServer.flightsJson(Map.of("origin", "IST", "destination", "ADB"), 5), first);
+        Assert.assertEquals(first.split("\"id\":").length - 1, 5);
+        Assert.assertEquals(OfflineSiteServer.flightsJson(route, 0), "[]");
+    }
+
+    @Test
+    public void queryValuesAreDecoded() {
+        Map<String, String> query = OfflineSiteServer.parseQuery(URI.create("/api/flights?origin=%C4%B0stanbul&destination=ESB&empty=&flag"));
+
+        Assert.assertEquals(query.get("origin"), "İstanbul");
+        Assert.assertEquals(query.get("destination"), "ESB");
+        Assert.assertEquals(query.get("empty"), "");
+        Assert.assertFalse(query.containsKey("flag"));
+    }
+
+    @Test
+    public void badCountIsRejectedWithBadRequest() throws IOException, InterruptedException {
+        String baseUrl = OfflineSiteServer.start().getBaseUrl();
+
+        Assert.assertEquals(get(baseUrl + "/api/flights?origin=IST&count=1000000").statusCode(), 400);
+        Assert.assertEquals(get(baseUrl + "/api/flights?origin=IST&count=abc").statusCode(), 400);
+
+        HttpResponse<String> ok = get(baseUrl + "/api/flights?origin=IST&count=3");
+        Assert.assertEquals(ok.statusCode(), 200);
+        Assert.assertTrue(ok.body().startsWith("[{\"id\":0"), ok.body());
+    }
+
+    @Test
+    public void calendarScriptCarriesTheStartDate() throws IOException, InterruptedException {
+        HttpResponse<String> response = get(OfflineSiteServer.start().getBaseUrl() + "/calendar.js");
+
+        Assert.assertEquals(response.statusCode(), 200);
+        Assert.assertTrue(response.body().matches("(?s)window\\.OFFLINE_CALENDAR_START = '\\d{4}-\\d{2}-\\d{2}';\\s*"), response.body());
+    }
+
+    private static ConfigSnapshot.TravelDate travelDate(String raw) {
+        return ConfigSnapshot.TravelDate.parse("departureDate", raw);
+    }
+
+    private static HttpResponse<String> get(String url) throws IOException, InterruptedException {
+        return HttpClient.newHttpClient().send(HttpRequest.newBuilder(URI.create(url)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
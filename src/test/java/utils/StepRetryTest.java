@@ -0,0 +1,125 @@
+package utils;
+
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Runs each test with three attempts per step, whatever stepRetryAttempts is set to.
+// Relies on config.properties: stepRetryBackoff=250, stepRetryMaxBackoff=2000.
+public class StepRetryTest {
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @BeforeMethod
+    public void startTest() {
+        attempts.set(0);
+        StepRetry.startTest(3, Duration.ofSeconds(30));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void finishTest() {
+        StepRetry.finishTest();
+    }
+
+    @Test
+    public void transientFailuresAreRetriedWithGrowingBackoff() {
+        long start = System.nanoTime();
+        String result = StepRetry.run("stale twice", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new StaleElementReferenceException("re-rendered");
+            }
+            return "done";
+        });
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        Assert.assertEquals(result, "done");
+        Assert.assertEquals(attempts.get(), 3);
+        // 250 ms before the second attempt, 500 ms before the third.
+        Assert.assertTrue(elapsedMillis >= 750, "elapsed " + elapsedMillis + " ms");
+        StepRetry.TestRetries retries = StepRetry.finishTest();
+        Assert.assertEquals(retries.count(), 2);
+        Assert.assertTrue(retries.usedMillis() >= 750, "charged " + retries.usedMillis() + " ms");
+    }
+
+    @Test
+    public void interceptedClicksAreRetried() {
+        StepRetry.run("intercepted once", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new ElementClickInterceptedException("overlay");
+            }
+        });
+
+        Assert.assertEquals(attempts.get(), 2);
+    }
+
+    @Test
+    public void timeoutsAreNotRetried() {
+        Assert.assertThrows(TimeoutException.class, () -> StepRetry.run("timeout", () -> {
+            attempts.incrementAndGet();
+            throw new TimeoutException("never appeared");
+        }));
+
+        Assert.assertEquals(attempts.get(), 1);
+        Assert.assertEquals(StepRetry.finishTest().count(), 0);
+    }
+
+    @Test
+    public void otherExceptionsPassThroughUnchanged() {
+        IllegalStateException failure = new IllegalStateException("wrong page");
+
+        IllegalStateException thrown = Assert.expectThrows(IllegalStateException.class, () -> StepRetry.run("broken", () -> {
+            attempts.incrementAndGet();
+            throw failure;
+        }));
+
+        Assert.assertSame(thrown, failure);
+        Assert.assertEquals(attempts.get(), 1);
+    }
+
+    @Test
+    public void lastFailureSurfacesOnceAttemptsRunOut() {
+        Assert.assertThrows(StaleElementReferenceException.class, () -> StepRetry.run("always stale", () -> {
+            attempts.incrementAndGet();
+            throw new StaleElementReferenceException("re-rendered");
+        }));
+
+        Assert.assertEquals(attempts.get(), 3);
+    }
+
+    @Test
+    public void exhaustedBudgetStopsRetrying() {
+        StepRetry.startTest(3, Duration.ofMillis(100));
+
+        Assert.assertThrows(StaleElementReferenceException.class, () -> StepRetry.run("no budget", () -> {
+            attempts.incrementAndGet();
+            throw new StaleElementReferenceException("re-rendered");
+        }));
+
+        Assert.assertEquals(attempts.get(), 1);
+        Assert.assertEquals(StepRetry.finishTest().count(), 0);
+    }
+
+    @Test
+    public void nestedStepsOnlyRetryAtTheOutermostLevel() {
+        AtomicInteger inner = new AtomicInteger();
+
+        StepRetry.run("outer", () -> {
+            attempts.incrementAndGet();
+            StepRetry.run("inner", () -> {
+                if (inner.incrementAndGet() == 1) {
+                    throw new StaleElementReferenceException("re-rendered");
+                }
+            });
+        });
+
+        Assert.assertEquals(inner.get(), 2);
+        Assert.assertEquals(attempts.get(), 2);
+        Assert.assertEquals(StepRetry.finishTest().count(), 1);
+    }
+}
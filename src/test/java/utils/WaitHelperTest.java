@@ -0,0 +1,31 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.pagefactory.ByChained;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class WaitHelperTest {
+
+    @Test
+    public void idAndCssLocatorsAreHandedToTheScript() {
+        Assert.assertEquals(WaitHelper.toSelector(By.id("onetrust-accept-btn-handler")),
+                new String[]{"id", "onetrust-accept-btn-handler"});
+        Assert.assertEquals(WaitHelper.toSelector(By.cssSelector("[data-testid='flightInfoPrice']")),
+                new String[]{"cssSelector", "[data-testid='flightInfoPrice']"});
+    }
+
+    @Test
+    public void selectorsContainingTheSeparatorAreKeptWhole() {
+        Assert.assertEquals(WaitHelper.toSelector(By.cssSelector("a[title='Saat: 06:00']")),
+                new String[]{"cssSelector", "a[title='Saat: 06:00']"});
+    }
+
+    @Test
+    public void otherLocatorsFallBackToPolling() {
+        Assert.assertNull(WaitHelper.toSelector(By.xpath("(//div[contains(@class, 'jHaclP')])[last()]")));
+        Assert.assertNull(WaitHelper.toSelector(By.className("flight-item")));
+        Assert.assertNull(WaitHelper.toSelector(By.name("origin")));
+        Assert.assertNull(WaitHelper.toSelector(new ByChained(By.id("results"), By.cssSelector(".flight-item"))));
+    }
+}